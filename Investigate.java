@@ -64,14 +64,14 @@ public class Investigate
      * what the highest and lowest number of stories participated in is.
      */
     protected void RATsPerStory() {
-        Iterator<String> iterator = g.stories.keySet().iterator(); //iterates over stories keys
+        Iterator<Integer> iterator = g.stories.keySet().iterator(); //iterates over stories keys
 
         highestStories = 0;
         lowestStories = 5000; //assumes that no one participated in as many as 5000 stories
         // (given that there aren't 5000 stories)
 
         while(iterator.hasNext()) {
-            String key = iterator.next(); //the next story in the Vector
+            int key = iterator.next(); //the next story in the Vector
             int currentRATs = g.stories.get(key); //the number of RATs that participated in
             //each story
             RATsPerStoryValues.add(currentRATs); //adds the number to a LinkedList of values for
@@ -94,7 +94,7 @@ public class Investigate
      * @return a string representation of the x most popular stories
      */
     protected String mostPopularStories(int x) {
-        Iterator<String> iterator = (g.stories.keySet()).iterator(); //iterates over stories keys
+        Iterator<Integer> iterator = (g.stories.keySet()).iterator(); //iterates over stories keys
         String s = "";
 
         int count = 0; //counts how many stories have been added. Makes it possible to include
@@ -102,12 +102,12 @@ public class Investigate
         //the user input
 
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets next key
+            int key = iterator.next(); //gets next key
             if (g.stories.get(key) == highestStories) { //if the story count was the highest, adds it!
                 count++;
-                s += ("\nStory: "  + key 
+                s += ("\nStory: "  + g.symbols.labelOf(key) 
                     + "\t\tTimes Tweeted About: "  + g.stories.get(key));
-                mostPopStories.put(key, g.stories.get(key));
+                mostPopStories.put(g.symbols.labelOf(key), g.stories.get(key));
             }
         }
 
@@ -128,7 +128,7 @@ public class Investigate
      * @return a string representation of the x most popular stories
      */
     protected String leastPopularStories(int x) {
-        Iterator<String> iterator = (g.stories.keySet()).iterator(); //iterates over stories keys
+        Iterator<Integer> iterator = (g.stories.keySet()).iterator(); //iterates over stories keys
         String s = "\n   Stories with " + lowestRATs + " participating:\n   \t";
 
         int count = 0; //counts how many stories have been added. Makes it possible to include
@@ -136,11 +136,11 @@ public class Investigate
         //the user input
 
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets next key
+            int key = iterator.next(); //gets next key
             if (g.stories.get(key) == lowestStories) { //if the story count was the lowest, adds it!
                 count++;
-                s += (key + ", ");
-                leastPopStories.put(key, g.stories.get(key));
+                s += (g.symbols.labelOf(key) + ", ");
+                leastPopStories.put(g.symbols.labelOf(key), g.stories.get(key));
             }
         }
 
@@ -161,16 +161,16 @@ public class Investigate
      */
     protected void storiesPerRAT() { //could just use story_count...
         // Collection Iterator
-        Iterator<String> iterator = g.accounts.keySet().iterator(); //iterates over accounts keys
+        Iterator<Integer> iterator = g.accounts.keySet().iterator(); //iterates over accounts keys
 
         highestRATs = 0; 
         lowestRATs = 5000; // there are fewer than 5000 RATs, so assumes this is high enough
 
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets next ket
+            int key = iterator.next(); //gets next ket
             RAT current = g.accounts.get(key); //gets next RAT
 
-            int numStories = g.accounts.get(key).stories.size(); //gets # of stories the RAT
+            int numStories = g.accounts.get(key).numStories; //gets # of stories the RAT
             //participated in
             storiesPerRATValues.add(numStories);//adds the number to a LinkedList of values for
             //later use
@@ -192,22 +192,22 @@ public class Investigate
      * @return a string representation of the x most active RATs
      */
     protected String mostActiveRATs(int x) {
-        Iterator<String> iterator = (g.accounts.keySet()).iterator(); //iterates over accounts keys
+        Iterator<Integer> iterator = (g.accounts.keySet()).iterator(); //iterates over accounts keys
         String s = "";
 
         int count = 0;  //counts how many RATs have been added. Makes it possible to include
         //values that are tied for the highest participation that would exceed
         //the user input
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets next key
+            int key = iterator.next(); //gets next key
             RAT current = g.accounts.get(key); //gets next RAT
-            int numStories = g.accounts.get(key).stories.size(); //how many stories the RAT
+            int numStories = g.accounts.get(key).numStories; //how many stories the RAT
             //participated in
             if (numStories == highestRATs) { //sees if RAT participated in the highest # of stories
                 count++;
-                s += ("\nRat: "  + key 
+                s += ("\nRat: "  + g.symbols.labelOf(key) 
                     + "\t\tNumber of Stories Tweeted About: "  + numStories);
-                mostActiveRATs.put(key, current);
+                mostActiveRATs.put(g.symbols.labelOf(key), current);
             }
         }
 
@@ -228,20 +228,20 @@ public class Investigate
      * @return a string representation of the x most active RATs
      */
     protected String leastActiveRATs(int x) {
-        Iterator<String> iterator = (g.accounts.keySet()).iterator(); //iterates over accounts keys
+        Iterator<Integer> iterator = (g.accounts.keySet()).iterator(); //iterates over accounts keys
         String s = "\n   Tweeted about " + lowestRATs + " stories:\n   \t";
 
         int count = 0;  //counts how many RATs have been added. Makes it possible to include
         //values that are tied for the highest participation that would exceed
         //the user input
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets next key
+            int key = iterator.next(); //gets next key
             RAT current = g.accounts.get(key); //gets next RAT
-            int numStories = g.accounts.get(key).stories.size(); //how many stories the RAT
+            int numStories = g.accounts.get(key).numStories; //how many stories the RAT
             //participated in
             if (numStories == lowestRATs) { //sees if RAT participated in the highest # of stories
                 count++;
-                s += (key + ", ");
+                s += (g.symbols.labelOf(key) + ", ");
             }
         }
 
@@ -274,11 +274,7 @@ public class Investigate
 
         if (list.equals(storiesPerRATValues)) {
 
-            if (storiesPerRATValues.size()%2 == 0) {
-                medStoriesParticipated = list.get(list.size() / 2);
-            } else {
-                medStoriesParticipated = list.get(list.size() / 2 + 1);
-            }
+            medStoriesParticipated = median(list);
 
             avgStoriesParticipated = sum / list.size();
 
@@ -292,11 +288,7 @@ public class Investigate
                 avgStoriesParticipated);        
         } else if (list.equals(RATsPerStoryValues)) {
 
-            if (RATsPerStoryValues.size()%2 == 0) {
-                medRATsPerStory = list.get(list.size() / 2);
-            } else {
-                medRATsPerStory = list.get(list.size() / 2 + 1);
-            }
+            medRATsPerStory = median(list);
 
             avgRATsPerStory = sum / list.size();
 
@@ -314,115 +306,102 @@ public class Investigate
     }
 
     /**
-     * Uses breadth first search to find the diameter of the graph
+     * Finds the median of a list of values. The list itself is left in the
+     * order it was in.
+     * 
+     * @param list the values
+     * @return the middle value once they are sorted, or the average of the
+     *          two middle values if there is an even number of them
      */
-    public int getDiameter() {
-        Iterator<String> iterator = g.accounts.keySet().iterator(); //iterates over accounts keys
-        diameter = 0; //initial diameter, expected to grow
+    protected int median(LinkedList<Integer> list) {
+        int[] sorted = new int[list.size()];
+        int k = 0;
+        for (int value : list) {
+            sorted[k++] = value;
+        }
+        Arrays.sort(sorted);
 
-        boolean checked = false;
-        int levels = 0;
+        if (sorted.length % 2 == 0) {
+            return (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+        }
+        return sorted[sorted.length / 2];
+    }
 
-        while(iterator.hasNext()) {
-            String key = iterator.next();
-            RAT current = g.accounts.get(key);
-
-            LinkedList<String> currentBF = g.graph.BFtraversal(current.username); //BFS on current RAT            
-            String first = currentBF.remove();
-            levels = 0;
-
-            for (String element : currentBF) {
-                if ((g.accounts.containsKey(element)) && (checked == false)) {
-                    checked = true;
-                    levels++;
-                } if (!g.accounts.containsKey(element) && (checked == true)) {
-                    checked = false;
-                    levels++;
-                }
-            }
+    /**
+     * Works out the diameter, the radius and the center nodes of the graph,
+     * using eccentricity bounds so that only a few RATs need a breadth first
+     * search. The eccentricity of a RAT is the largest number of hops from it
+     * to any account or story it can reach. (ParallelEccentricity gives the
+     * same answer by searching from every RAT.)
+     */
+    public void measureEccentricities() {
+        BoundingEccentricity<Integer> sweep = new BoundingEccentricity<Integer>(g.graph);
+        sweep.measure(g.accounts.keySet());
 
-            if (levels >= diameter) {
-                diameter = levels; //diameter grows as soon as the BFS produces a larger value
-            }
+        diameter = sweep.getDiameter();
+        radius = sweep.getRadius();
+        centerNodes = new LinkedList<String>();
+        for (int center : sweep.getCenterNodes()) {
+            centerNodes.add(g.symbols.labelOf(center)); //the sweep gives symbol ids
         }
+    }
 
-        return levels;
+    /**
+     * Uses breadth first search to find the diameter of the graph
+     */
+    public int getDiameter() {
+        measureEccentricities();
+        return diameter;
     }
 
     /**
-     * Uses breadth first search to find the radius of the graph
+     * Uses breadth first search to find the radius of the graph, and the
+     * center nodes (the RATs whose eccentricity matches it)
      */
     public int getRadius() {
-        Iterator<String> iterator = g.accounts.keySet().iterator(); //iterates over accounts keys
-        radius = diameter; //initial diameter, expected to shrink
-
-        boolean checked = false;
-        int levels = 0;
-
-        while(iterator.hasNext()) {
-            String key = iterator.next();
-            RAT current = g.accounts.get(key);
-
-            LinkedList<String> currentBF = g.graph.BFtraversal(current.username); //BFS on current RAT            
-            String first = currentBF.remove();
-            levels = 0;
-
-            for (String element : currentBF) {
-                if ((g.accounts.containsKey(element)) && (checked == false)) {
-                    checked = true;
-                    levels++;
-                } if (!g.accounts.containsKey(element) && (checked == true)) {
-                    checked = false;
-                    levels++;
-                }
-            }
-
-            if (levels == radius) {
-                centerNodes.add(current.username); //adds the user to the list if they have an eccentricity that 
-                                                   //matches the current eccentricity
-            }
-            if (levels < radius) { //if the user has an eccentricity smaller than the current eccentricity...
-                radius = levels; //radius shrinks as soon as the BFS produces a smaller value
-                centerNodes.clear(); //clears the previous centerNodes list
-                centerNodes.add(current.username); //adds the current user to the now-empty centerNodes list
-            }
-        }
-        
+        measureEccentricities();
         return radius;
     }
 
     /**
-     * Uses depth first search to determine whether the graph is connected or not.
-     * Uses the first RAT just for ease of use, then compares all other RATs to the
-     * list of RATs provided by the DFS to determine whether the graph is connected or not.
+     * Determines whether there is only one connected component, i.e. whether
+     * every RAT and story can be reached from every other. The graph keeps
+     * its components up to date while it is built, so this needs no pass
+     * over the edges.
      * 
      * @return a boolean indicating the graph's connectivity
      */
     public boolean isConnected() {
-        Iterator<String> iterator1 = g.accounts.keySet().iterator(); //iterates over the keys
-        Iterator<String> iterator2 = g.stories.keySet().iterator(); //iterates over the keys
-        String key = iterator1.next(); //gets the first RAT's key
-        RAT current = g.accounts.get(key); //gets the first RAT
-
-        LinkedList DFresults = g.graph.DFtraversal(current.username); //performs DFS on the RAT
-
-        while(iterator1.hasNext()) {
-            key = iterator1.next();
-            if (!DFresults.contains(key)) {
-                return false; //returns false as soon as a RAT in the graph is not found in the
-                //DFS linked list
-            }
-        }
-        
-        while(iterator2.hasNext()) {
-            key = iterator2.next();
-            if (!DFresults.contains(key)) {
-                return false; //returns false as soon as a RAT in the graph is not found in the
-                //DFS linked list
+        return g.graph.isConnected();
+    }
+
+    /**
+     * Projects the graph onto the RATs to find which RATs co-tweeted: two
+     * RATs are linked when they tweeted about at least minShared of the
+     * same stories.
+     * 
+     * @param minShared the fewest stories two RATs need to have in common
+     * @return a string representation of how many pairs of RATs co-tweeted,
+     *          and which pair had the most stories in common
+     */
+    public String coTweetingRATs(int minShared) {
+        CSRGraph<Integer> projection = new BipartiteProjection<Integer>(g.graph).projectLeft(minShared);
+
+        int most = 0; //most stories a pair of RATs had in common
+        String pair = "";
+        for (int i = 0; i < projection.getNumVertices(); i++) {
+            for (int k = 0; k < projection.outDegreeAt(i); k++) {
+                if (projection.weightAt(i, k) > most) {
+                    most = projection.weightAt(i, k);
+                    pair = g.symbols.labelOf(projection.vertexAt(i)) + " and "
+                        + g.symbols.labelOf(projection.vertexAt(projection.successorAt(i, k)));
+                }
             }
         }
 
-        return true; //returns true if all RATs were found in the DFS linked list
+        //every pair is an arc in each direction
+        return (projection.getNumArcs() / 2) + " pairs of RATs tweeted about at least " + minShared
+            + " of the same stories." + (most == 0 ? "" : "\n   " + pair + " had the most in common: " + most + " stories.");
     }
 
     /**
@@ -436,15 +415,16 @@ public class Investigate
      * @return a list of RATs that tweeted about both stories
      */
     public LinkedList<String> compareRATs(String story1, String story2) {
-        Iterator<String> iterator = g.accounts.keySet().iterator(); //iterates over the keys
+        Iterator<RAT> iterator = g.accounts.values().iterator(); //iterates over the RATs
 
         LinkedList<String> overlaps = new LinkedList<String>();
+        int id1 = g.symbols.idOf(RATgraph.STORIES, story1); //compares symbol ids from here on
+        int id2 = g.symbols.idOf(RATgraph.STORIES, story2);
         
         while(iterator.hasNext()) {
-            String key = iterator.next(); //gets the first RAT's key
-            RAT current = g.accounts.get(key); //gets the first RAT
-            if ((current.stories).contains(story1) && (current.stories).contains(story2)) {
-                overlaps.add(current.username);
+            RAT current = iterator.next(); //gets the first RAT
+            if (current.hasStory(id1) && current.hasStory(id2)) {
+                overlaps.add(g.symbols.labelOf(current.username));
             }
         }
         
@@ -511,15 +491,19 @@ public class Investigate
         System.out.println("\nThe " + i.numPops + " least active RATs were:" 
             + i.leastActiveRATs(i.numPops));    
 
-        i.getDiameter();
-        i.getRadius();
+        i.measureEccentricities(); //diameter, radius and center nodes in one sweep
 
         System.out.println("\nThe diameter of the graph is: " + i.diameter);
         System.out.println("\nThe radius of the graph is: " + i.radius);
         System.out.println("\nThe center nodes of the graph are: " + i.centerNodes);
 
         System.out.println("\nThe graph is connected: " + i.isConnected());
-        
+        ConnectedComponents<Integer> components = new ConnectedComponents<Integer>(i.g.graph);
+        System.out.println("The graph has " + i.g.graph.getNumComponents() + " component(s); the largest has "
+            + components.sizeOf(components.getGiantComponent()) + " RATs and stories.");
+
+        System.out.println(i.coTweetingRATs(10));
+
         System.out.println("How the 10 most popular stories overlapped with eachother:\n" + i.overlappingRATs(i.mostPopStories));
         
         i.g.exportAccounts("accounts.csv");
@@ -5,47 +5,69 @@
  * @version 12/05/2019
  */
 
-import java.util.LinkedList;
+import javafoundations.SymbolTable;
+import java.util.Arrays;
 
 public class RAT
 {
     // instance variables
-    protected String username; 
-    protected String userID;
+    protected SymbolTable symbols; //where the labels of the ids below are kept
+    protected int username; //symbol id of the username
+    protected int userID; //symbol id of the userID
     protected long tweetCount;
     protected long storyCount;
-    protected LinkedList<String> stories;
+    protected int[] stories; //symbol ids of the stories, in the order they were added
+    protected int[] sortedStories; //the same ids in increasing order, for hasStory
+    protected int numStories; //number of stories in the stories array
 
     /**
      * Constructor for objects of class RAT
      * 
-     * @param u the RAT's username
-     * @param uID the RAT's userID
+     * @param symbols the symbol table the ids come from
+     * @param u the symbol id of the RAT's username
+     * @param uID the symbol id of the RAT's userID
      * @param t the RAT's tweetCount
      * @param s the RAT's storyCount
      */
-    public RAT(String u, String uID, long t, long s)
+    public RAT(SymbolTable symbols, int u, int uID, long t, long s)
     {
+        this.symbols = symbols;
         this.username = u;
         this.userID = uID;
         this.tweetCount = t;
         this.storyCount = s;
-        stories = new LinkedList<String>();
+        stories = new int[4];
+        sortedStories = new int[4];
+        numStories = 0;
     }
 
     /**
-     * Adds a story to the RAT's LinkedList of stories.
+     * Adds a story to the RAT's array of stories.
      * 
-     * @param story the story to be added
+     * @param story the symbol id of the story to be added
      */
-    protected void addStory(String story) {
-        try {
-            if (!stories.contains(story)) {
-                stories.add(story); //avoiding adding duplicate stories
-            } 
-        } catch (NullPointerException ex) {
-            System.out.println(ex + " for story " + story);
-        }       
+    protected void addStory(int story) {
+        int k = Arrays.binarySearch(sortedStories, 0, numStories, story);
+        if (k < 0) { //avoiding adding duplicate stories
+            k = -k - 1; //where the story belongs in sortedStories
+            if (numStories == stories.length) {
+                stories = Arrays.copyOf(stories, stories.length * 2);
+                sortedStories = Arrays.copyOf(sortedStories, stories.length);
+            }
+            System.arraycopy(sortedStories, k, sortedStories, k + 1, numStories - k);
+            sortedStories[k] = story;
+            stories[numStories++] = story;
+        }
+    }
+
+    /**
+     * Determines whether the RAT tweeted about a story.
+     * 
+     * @param story the symbol id of the story
+     * @return true if the story is one of the RAT's stories
+     */
+    protected boolean hasStory(int story) {
+        return Arrays.binarySearch(sortedStories, 0, numStories, story) >= 0;
     }
 
     /**
@@ -55,11 +77,11 @@ public class RAT
      */
     public String toString() {
         String allStories = "";
-        for (String s : stories) {
-            allStories += s + ", ";
+        for (int k = 0; k < numStories; k++) {
+            allStories += symbols.labelOf(stories[k]) + ", ";
         }
         allStories = allStories.substring(0, allStories.length()-3); //removes the last "," and space
-        return username + "\t" + userID + "\t" 
+        return symbols.labelOf(username) + "\t" + symbols.labelOf(userID) + "\t" 
         + tweetCount + "\t" + storyCount + "\t" + allStories; //nicely formatted string
     }
 
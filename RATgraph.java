@@ -14,18 +14,27 @@ import java.io.IOException;
 
 public class RATgraph
 {
+    //the namespaces of the symbol table, so a username, a userID and a story
+    //with the same text are still three different vertices
+    protected static final int USERNAMES = 0;
+    protected static final int USER_IDS = 1;
+    protected static final int STORIES = 2;
+
     // instance variables
-    protected AdjListsGraph<String> graph; //how we'll graph the RATs and stories
+    protected SymbolTable symbols; //every username, userID and story, stored once.
+    //everything below refers to them by symbol id
+    protected BipartiteGraph<Integer> graph; //how we'll graph the RATs (left) and stories (right)
 
-    protected Hashtable<String,RAT> accounts; //a hashtable of RATs. 
+    protected LinkedHashMap<Integer,RAT> accounts; //a hashtable of RATs, in the order they were read. 
     //key = username, value = RAT object
-    protected Hashtable<String,Integer> stories; //a hashtable of stories. key = story, 
+    protected LinkedHashMap<Integer,Integer> stories; //a hashtable of stories, in the order they were read. key = story, 
     //value = # of times the story was tweeted about
-    protected String[] usernames; //array of RAT usernames
-    protected String[] userIDs; //array of RAT userIDs
+    protected int[] usernames; //array of RAT usernames
+    protected int[] userIDs; //array of RAT userIDs
 
     protected int usernamesSize; //number of usernames in the usernames array
     protected int userIDsSize; //number of userIDs in the userIDs array
+    protected int dropped; //RAT-story pairs createGraph could not add as edges
 
     /**
      * Constructor for objects of class RATgraph
@@ -35,18 +44,19 @@ public class RATgraph
     public RATgraph(String fileName)
     {
         // initialise instance variables
-        accounts = new Hashtable<String,RAT>();
-        stories = new Hashtable<String,Integer>();
+        symbols = new SymbolTable(1024);
+        accounts = new LinkedHashMap<Integer,RAT>();
+        stories = new LinkedHashMap<Integer,Integer>();
 
-        usernames = new String[300]; //assumes there are <=300 RATs
-        userIDs = new String[300];
+        usernames = new int[300]; //assumes there are <=300 RATs
+        userIDs = new int[300];
 
         usernamesSize = 0;
         userIDsSize = 0;
 
         readFromFile(fileName); //reads RATs from file
 
-        graph = new AdjListsGraph<String>(); 
+        graph = new BipartiteGraph<Integer>(); 
         createGraph(fileName); //creates the graph of RATs
     }
 
@@ -65,18 +75,19 @@ public class RATgraph
             while (scan.hasNext()) {
                 String[] input = scan.nextLine().split("\t"); //splits @ tabs since file is a TSV
 
-                String user = input[0];
-                String accountNum = input[1];
+                int user = symbols.intern(USERNAMES, input[0]);
+                int accountNum = symbols.intern(USER_IDS, input[1]);
                 long tweetCount = Long.parseLong(input[2]);
                 long storyCount = Long.parseLong(input[3]);
 
                 addUsername(user); //adds username to the username array
                 addUserID(accountNum); //adds userID to the userID array
 
-                RAT current = new RAT(user, accountNum, tweetCount, storyCount);
+                RAT current = new RAT(symbols, user, accountNum, tweetCount, storyCount);
                 String[] currentStories = input[4].split(","); //splits the stories at commas
 
-                for (String s : currentStories) {
+                for (String story : currentStories) {
+                    int s = symbols.intern(STORIES, story);
                     current.addStory(s); //adds the story to the current RAT
                     if (!stories.containsKey(s)) {
                         stories.put(s, 1); //if the story is not in the stories Hashtable, 
@@ -102,9 +113,9 @@ public class RATgraph
      * 
      * @param u the username to add
      */
-    private void addUsername(String u) {
+    private void addUsername(int u) {
         if (usernamesSize == usernames.length) {
-            String[] temporary = new String[usernames.length * 2];
+            int[] temporary = new int[usernames.length * 2];
 
             for (int i = 0; i < usernames.length; i++) {
                 temporary[i] = usernames[i];
@@ -121,9 +132,9 @@ public class RATgraph
      * 
      * @param u the userID to add
      */
-    private void addUserID(String u) {
+    private void addUserID(int u) {
         if (userIDsSize == userIDs.length) {
-            String[] temporary = new String[userIDs.length * 2];
+            int[] temporary = new int[userIDs.length * 2];
 
             for (int i = 0; i < userIDs.length; i++) {
                 temporary[i] = userIDs[i];
@@ -144,25 +155,42 @@ public class RATgraph
     protected void createGraph(String fileName)
     {
         try {
-            String currentUser;
-            LinkedList<String> currentStories;
             RAT currentRAT;
-            String currentU;
+            int currentU;
 
+            //counts the edges first, so the graph can be sized once
+            int numEdges = 0;
+            for (int i = 0; i < usernamesSize; i++) {
+                numEdges += accounts.get(usernames[i]).numStories;
+            }
+            graph.ensureCapacity(usernamesSize, stories.size(), numEdges);
+
+            int[] from = new int[numEdges]; //the user end of each edge
+            int[] to = new int[numEdges]; //the story end of each edge
+            int count = 0;
+            dropped = 0;
             for (int i = 0; i < usernamesSize; i++) {
                 currentU = usernames[i]; //gets username from usernames array
                 currentRAT = accounts.get(currentU); //gets RAT from accounts using username as key
 
-                graph.addVertex(currentU); //adds username as a vertex to the graph
-                for (String story : currentRAT.stories) {
-                    graph.addVertex(story); //adds the story to the graph
-
-                    //used arcs instead of edges here to ensure that yEd correctly displayed
-                    //our bipartite graph. We're unsure why edges created a bug in yEd.
-                    graph.addArc(currentU, story); //creates an arc between the user and story
-                    graph.addArc(story, currentU); //creates an arc between the story and use
+                int user = graph.addLeft(currentU); //adds username as a vertex on the RAT side of the graph
+                for (int k = 0; k < currentRAT.numStories; k++) {
+                    int storyIndex = graph.addRight(currentRAT.stories[k]); //adds the story on the story side of the graph
+                    if (user != -1 && storyIndex != -1) {
+                        from[count] = user;
+                        to[count++] = storyIndex;
+                    } else {
+                        dropped++; //one end is already a vertex on the other side
+                    }
                 }
             }
+            if (dropped > 0) {
+                System.out.println(dropped + " RAT-story pair(s) in " + fileName + " could not be added as edges, and were skipped.");
+            }
+
+            //one edge is stored for both directions, and saveToTGF writes it
+            //as an arc each way
+            graph.addArcs(Arrays.copyOf(from, count), Arrays.copyOf(to, count)); //creates the edges between users and stories
         } catch (NullPointerException ex) {
             System.out.println(ex + " for file " + fileName);
         }
@@ -170,13 +198,13 @@ public class RATgraph
 
     public void exportAccounts(String fileName) {
         try {
-            Iterator<String> iterator = accounts.keySet().iterator(); //iterates over accounts keys
+            Iterator<Integer> iterator = accounts.keySet().iterator(); //iterates over accounts keys
             String s = "Username,storyCount,tweetCount\n";
 
             while(iterator.hasNext()) {
-                String key = iterator.next();
+                int key = iterator.next();
                 RAT current = accounts.get(key);
-                s += key + "," + current.storyCount  + "," + current.tweetCount + "\n";
+                s += symbols.labelOf(key) + "," + current.storyCount  + "," + current.tweetCount + "\n";
             }
 
             PrintWriter w = new PrintWriter(new File(fileName));
@@ -190,13 +218,13 @@ public class RATgraph
     
     public void exportStories(String fileName) {
         try {
-            Iterator<String> iterator = stories.keySet().iterator(); //iterates over accounts keys
+            Iterator<Integer> iterator = stories.keySet().iterator(); //iterates over accounts keys
             String s = "storyID,times_tweeted_about";
 
             while(iterator.hasNext()) {
-                String key = iterator.next();
+                int key = iterator.next();
                 int current = stories.get(key);
-                s += key + "," + current + "\n";
+                s += symbols.labelOf(key) + "," + current + "\n";
             }
 
             PrintWriter w = new PrintWriter(new File(fileName));
@@ -217,8 +245,12 @@ public class RATgraph
         System.out.println(r.accounts.size());
 
         System.out.println(r.graph);
-        r.graph.saveToTGF("RATgraph.tgf");
+        r.graph.saveToTGF("RATgraph.tgf", r.symbols::labelOf); //writes the labels, not their ids
 
-        System.out.println("Testing DFTraversal on 155892608: " + r.graph.DFtraversal("155892608"));
+        LinkedList<String> order = new LinkedList<String>();
+        for (int v : r.graph.DFtraversal(r.symbols.idOf(STORIES, "155892608"))) {
+            order.add(r.symbols.labelOf(v)); //the labels, not their ids
+        }
+        System.out.println("Testing DFTraversal on 155892608: " + order);
     }
 }
@@ -1,6 +1,20 @@
 /**
  * Creates an adjacency list graph.
  *
+ * Removing a vertex only leaves a tombstone at its index: its own arcs are
+ * dropped and it is taken out of its neighbours' successor sets, but the
+ * other vertices keep their indices and the linked lists of its neighbours
+ * are only cleaned up the next time they are read. Removing a vertex
+ * therefore costs O(its degree), however many vertices the graph has.
+ * compact() squeezes the tombstones out and renumbers the vertices; it also
+ * runs by itself once more than half of the indices are tombstones.
+ *
+ * An arc can be given an int weight with addArc(v1, v2, weight). Weights
+ * are kept in the successor sets, in an int array alongside the successor
+ * indices, so they are never boxed; arcs added without one have weight 1.
+ * freeze() carries them over to the snapshot, where weightAt reads them
+ * while walking the rows.
+ *
  * @author Kathryn Swint
  * @version 12/04/2019
  */
@@ -17,6 +31,18 @@ public class AdjListsGraph<T> implements Graph<T>{
     // instance variables
     protected Vector<T> vertices;
     protected Vector<LinkedList<T>> arcs;
+    protected Vector<LinkedList<T>> inArcs; //key = vertex index, value = its predecessors
+    protected Vector<NeighbourSet> arcSets; //key = vertex index, value = indices of its successors,
+    //so checking for an arc takes O(1) or O(log d) however many successors a vertex has, and their weights
+    protected boolean weighted; //true once an arc has been given a weight other than 1
+    protected Hashtable<T,Integer> indices; //key = vertex, value = its index in vertices/arcs
+    protected CSRGraph<T> snapshot; //last result of freeze(), null once the graph changes
+    protected UnionFind components; //connected components, kept up to date as vertices and arcs are added
+    protected boolean componentsStale; //true once a removal has made components out of date
+    protected BitSet deleted; //key = vertex index, set if the vertex there was removed
+    protected int numDeleted; //number of tombstones in vertices
+    protected BitSet staleOut; //vertices whose successor list may still hold removed vertices
+    protected BitSet staleIn; //vertices whose predecessor list may still hold removed vertices
 
     /**
      * Constructor for objects of class AdjListsGraph
@@ -25,6 +51,57 @@ public class AdjListsGraph<T> implements Graph<T>{
     {
         vertices = new Vector<T>();
         arcs = new Vector<LinkedList<T>>();
+        inArcs = new Vector<LinkedList<T>>();
+        arcSets = new Vector<NeighbourSet>();
+        weighted = false;
+        indices = new Hashtable<T,Integer>();
+        components = new UnionFind(0);
+        componentsStale = false;
+        deleted = new BitSet();
+        numDeleted = 0;
+        staleOut = new BitSet();
+        staleIn = new BitSet();
+    }
+
+    /**
+     * Looks up the position of a vertex in vertices (and arcs) in constant time.
+     * 
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in the graph
+     */
+    protected int indexOf(T v) {
+        Integer index = indices.get(v);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Gets the successors of the vertex at an index, first dropping any
+     * removed vertices still in the list.
+     * 
+     * @param index the index of a vertex that has not been removed
+     * @return its list of successors
+     */
+    protected LinkedList<T> successorsAt(int index) {
+        if (staleOut.get(index)) {
+            arcs.get(index).removeIf(vertex -> !indices.containsKey(vertex));
+            staleOut.clear(index);
+        }
+        return arcs.get(index);
+    }
+
+    /**
+     * Gets the predecessors of the vertex at an index, first dropping any
+     * removed vertices still in the list.
+     * 
+     * @param index the index of a vertex that has not been removed
+     * @return its list of predecessors
+     */
+    protected LinkedList<T> predecessorsAt(int index) {
+        if (staleIn.get(index)) {
+            inArcs.get(index).removeIf(vertex -> !indices.containsKey(vertex));
+            staleIn.clear(index);
+        }
+        return inArcs.get(index);
     }
 
     /**
@@ -34,7 +111,7 @@ public class AdjListsGraph<T> implements Graph<T>{
      */
     public boolean isEmpty() 
     {
-        return vertices.size() == 0;
+        return getNumVertices() == 0;
     }
 
     /**
@@ -43,7 +120,7 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @return an integer representation of the number of vertices
      */
     public int getNumVertices() {
-        return vertices.size();
+        return vertices.size() - numDeleted;
     }
 
     /**
@@ -53,8 +130,8 @@ public class AdjListsGraph<T> implements Graph<T>{
      */
     public int getNumArcs(){
         int total = 0;
-        for (int i = 0; i < arcs.size(); i++) {
-            total += arcs.get(i).size();
+        for (int i = 0; i < arcSets.size(); i++) {
+            total += arcSets.get(i).size(); //removed vertices have empty sets
         }
         return total;
     }
@@ -68,10 +145,10 @@ public class AdjListsGraph<T> implements Graph<T>{
      */
     public boolean isArc(T v1, T v2){
         boolean connected;
-        if (vertices.contains(v1) && vertices.contains(v2)) {
-            int origin = vertices.indexOf(v1); //beginning vertex
-            int destination = vertices.indexOf(v2); //vertex to connect to
-            connected = arcs.get(origin).contains(v2); //checks if they're connected
+        int origin = indexOf(v1); //beginning vertex
+        int destination = indexOf(v2); //vertex to connect to
+        if (origin != -1 && destination != -1) {
+            connected = arcSets.get(origin).contains(destination); //checks if they're connected
         } else {
             connected = false;
             System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
@@ -97,7 +174,10 @@ public class AdjListsGraph<T> implements Graph<T>{
      */
     public boolean isUndirected(){
         for (int i = 0; i < arcs.size(); i++) {
-            LinkedList<T> current = arcs.get(i);
+            if (deleted.get(i)) {
+                continue;
+            }
+            LinkedList<T> current = successorsAt(i);
             for (int j = 0; j < current.size(); j++) {
                 // as soon as two vertices are found that are not connected by
                 // an edge, returns false
@@ -115,33 +195,155 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @param v the vertex to be added
      */
     public void addVertex(T v){
-        if (!vertices.contains(v)) {
+        if (!indices.containsKey(v)) {
+            if (!staleOut.isEmpty() || !staleIn.isEmpty()) {
+                purgeStale(); //v may be a removed vertex that some lists still hold
+            }
+            indices.put(v, vertices.size());
             vertices.add(v);
             LinkedList<T> vertexEdges = new LinkedList<T>();
             arcs.add(vertexEdges);
+            inArcs.add(new LinkedList<T>());
+            arcSets.add(new NeighbourSet());
+            snapshot = null;
+            if (!componentsStale) {
+                components.add(); //the new vertex is a component of its own
+            }
+        }
+    }
+
+    /**
+     * Adds a collection of vertices to the graph, growing the storage once
+     * for all of them
+     * 
+     * @param newVertices the vertices to be added
+     */
+    public void addVertices(Collection<T> newVertices){
+        ensureCapacity(vertices.size() + newVertices.size(), 0);
+        for (T v : newVertices) {
+            addVertex(v);
+        }
+    }
+
+    /**
+     * Grows the vertex storage ahead of a batch of additions. The index
+     * table is rebuilt at the new size once, instead of rehashing several
+     * times as it fills. Arcs live in linked lists, which have no capacity
+     * to grow, so numArcs is not used.
+     * 
+     * @param numVertices how many vertices the graph is expected to hold
+     * @param numArcs how many arcs the graph is expected to hold
+     */
+    public void ensureCapacity(int numVertices, int numArcs){
+        if (numVertices > vertices.size()) {
+            vertices.ensureCapacity(numVertices);
+            arcs.ensureCapacity(numVertices);
+            inArcs.ensureCapacity(numVertices);
+            arcSets.ensureCapacity(numVertices);
+            Hashtable<T,Integer> bigger = new Hashtable<T,Integer>(numVertices * 2);
+            bigger.putAll(indices);
+            indices = bigger;
         }
     }
 
     /**
-     * Removes a vertex from the graph
+     * Removes a vertex from the graph, leaving a tombstone at its index.
+     * Its neighbours lose their arcs to it at once, but their linked lists
+     * are only cleaned up when next read.
      * 
      * @param v the vertex to be removed
      */
     public void removeVertex(T v){
-        if (vertices.contains(v)) { //checks that the vertex is in the graph
-            for (int i = 0; i < vertices.size(); i++) {
-                // remove connections to the vertex from all other vertices
-                removeArc(v, vertices.get(i));
-                removeArc(vertices.get(i), v);
+        int index = indexOf(v);
+        if (index != -1) { //checks that the vertex is in the graph
+            indices.remove(v);
+            // marks the neighbours' lists to be cleaned up, and takes v out of
+            // the successor sets of its predecessors
+            for (T successor : arcs.get(index)) {
+                int s = indexOf(successor);
+                if (s != -1) {
+                    staleIn.set(s);
+                }
+            }
+            for (T predecessor : inArcs.get(index)) {
+                int p = indexOf(predecessor);
+                if (p != -1) {
+                    arcSets.get(p).remove(index);
+                    staleOut.set(p);
+                }
+            }
+            arcs.set(index, new LinkedList<T>());
+            inArcs.set(index, new LinkedList<T>());
+            arcSets.set(index, new NeighbourSet());
+            staleOut.clear(index);
+            staleIn.clear(index);
+            deleted.set(index);
+            numDeleted++;
+            snapshot = null;
+            componentsStale = true;
+            if (numDeleted * 2 > vertices.size()) {
+                compact(); //keeps the tombstones from outnumbering the vertices
             }
-            int index = vertices.indexOf(v); 
-            vertices.remove(index);
-            arcs.remove(index);
         } else {
             System.out.println("Tried to remove vertex that doesn't exist.");
         }
     }
 
+    /**
+     * Drops removed vertices from every linked list that may still hold
+     * them.
+     */
+    protected void purgeStale() {
+        for (int i = staleOut.nextSetBit(0); i >= 0; i = staleOut.nextSetBit(i + 1)) {
+            arcs.get(i).removeIf(vertex -> !indices.containsKey(vertex));
+        }
+        for (int i = staleIn.nextSetBit(0); i >= 0; i = staleIn.nextSetBit(i + 1)) {
+            inArcs.get(i).removeIf(vertex -> !indices.containsKey(vertex));
+        }
+        staleOut.clear();
+        staleIn.clear();
+    }
+
+    /**
+     * Squeezes the tombstones of removed vertices out of the graph, so the
+     * remaining vertices are numbered 0 ... n - 1 again, in the order they
+     * were added. Takes time linear in the size of the graph.
+     */
+    public void compact() {
+        if (numDeleted == 0) {
+            return;
+        }
+        purgeStale();
+        Vector<T> liveVertices = new Vector<T>(vertices.size() - numDeleted);
+        Vector<LinkedList<T>> liveArcs = new Vector<LinkedList<T>>(vertices.size() - numDeleted);
+        Vector<LinkedList<T>> liveInArcs = new Vector<LinkedList<T>>(vertices.size() - numDeleted);
+        Vector<NeighbourSet> liveArcSets = new Vector<NeighbourSet>(vertices.size() - numDeleted);
+        int[] newIndex = new int[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            if (!deleted.get(i)) {
+                newIndex[i] = liveVertices.size();
+                indices.put(vertices.get(i), liveVertices.size());
+                liveVertices.add(vertices.get(i));
+                liveArcs.add(arcs.get(i));
+                liveInArcs.add(inArcs.get(i));
+                liveArcSets.add(arcSets.get(i));
+            }
+        }
+        vertices = liveVertices;
+        arcs = liveArcs;
+        inArcs = liveInArcs;
+
+        // the successor sets hold indices, so they are renumbered (keeping their weights)
+        arcSets = new Vector<NeighbourSet>(vertices.size());
+        for (NeighbourSet successors : liveArcSets) {
+            arcSets.add(successors.renumbered(newIndex));
+        }
+        deleted.clear();
+        numDeleted = 0;
+        snapshot = null;
+        componentsStale = true;
+    }
+
     /**
      * Adds an arc between two vertices
      * 
@@ -149,19 +351,103 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @param v2 the destination vertex
      */
     public void addArc(T v1, T v2){
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
         // checks that both vertices exist
-        if (vertices.contains(v1) && vertices.contains(v2)) {
-            int origin = vertices.indexOf(v1);
-            int destination = vertices.indexOf(v2);
+        if (origin != -1 && destination != -1) {
             // checks if the vertices are already connected in the specified direction
-            if (!arcs.get(origin).contains(v2)){
+            if (arcSets.get(origin).add(destination)){
                 arcs.get(origin).add(v2);
+                inArcs.get(destination).add(v1);
+                snapshot = null;
+                if (!componentsStale) {
+                    components.union(origin, destination);
+                }
             }
         } else {
             System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
         }
     }
 
+    /**
+     * Adds an arc with a weight between two vertices, or changes the
+     * weight of the arc if it is already there
+     * 
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @param weight the weight of the arc
+     */
+    public void addArc(T v1, T v2, int weight){
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        // checks that both vertices exist
+        if (origin != -1 && destination != -1) {
+            if (arcSets.get(origin).put(destination, weight)) {
+                arcs.get(origin).add(v2);
+                inArcs.get(destination).add(v1);
+                if (!componentsStale) {
+                    components.union(origin, destination);
+                }
+            }
+            weighted = weighted || weight != 1;
+            snapshot = null;
+        } else {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+        }
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices
+     * 
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return the weight of the arc, 1 if it was added without a weight,
+     * or 0 if there is no such arc
+     */
+    public int getWeight(T v1, T v2){
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        if (origin == -1 || destination == -1) {
+            return 0;
+        }
+        return arcSets.get(origin).weightOf(destination);
+    }
+
+    /**
+     * Adds a batch of arcs given by vertex index, from from[i] to to[i].
+     * The indices are checked once for the whole batch, and no vertex has
+     * to be looked up in the index table.
+     * 
+     * @param from the indices of the origin vertices
+     * @param to the indices of the destination vertices
+     */
+    public void addArcs(int[] from, int[] to){
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length.");
+        }
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] < 0 || from[i] >= vertices.size() || to[i] < 0 || to[i] >= vertices.size()
+                || deleted.get(from[i]) || deleted.get(to[i])) {
+                System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+                return;
+            }
+        }
+
+        for (int i = 0; i < from.length; i++) {
+            T v1 = vertices.get(from[i]);
+            T v2 = vertices.get(to[i]);
+            // checks if the vertices are already connected in the specified direction
+            if (arcSets.get(from[i]).add(to[i])) {
+                arcs.get(from[i]).add(v2);
+                inArcs.get(to[i]).add(v1);
+                if (!componentsStale) {
+                    components.union(from[i], to[i]);
+                }
+            }
+        }
+        snapshot = null;
+    }
+
     /**
      * Removes an arc between two vertices
      * 
@@ -169,11 +455,16 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @param v2 the destination vertex
      */
     public void removeArc(T v1, T v2){
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
         // checks that both vertices exist
-        if (vertices.contains(v1) && vertices.contains(v2)) {
-            int origin = vertices.indexOf(v1);
-            int destination = vertices.indexOf(v2);
-            arcs.get(origin).remove(v2);
+        if (origin != -1 && destination != -1) {
+            if (arcSets.get(origin).remove(destination)) {
+                arcs.get(origin).remove(v2);
+                inArcs.get(destination).remove(v1);
+                snapshot = null;
+                componentsStale = true;
+            }
         } else {
             System.out.println("Tried to remove edge from one or more vertex that doesn't exist.");
         }
@@ -201,6 +492,62 @@ public class AdjListsGraph<T> implements Graph<T>{
         removeArc(v2, v1);
     }
 
+    /**
+     * Gets the union-find structure over the vertex indices, rebuilding it
+     * first if an arc or vertex was removed since it was last complete. A
+     * union-find cannot split sets, so removals are handled by this one
+     * O(V + E) rebuild at the next connectivity query rather than on every
+     * removal; while only vertices and arcs are being added it stays
+     * current at O(alpha(n)) per change.
+     *
+     * @return the up-to-date union-find structure
+     */
+    protected UnionFind components() {
+        if (componentsStale) {
+            components = new UnionFind(vertices.size());
+            for (int i = 0; i < vertices.size(); i++) {
+                if (!deleted.get(i)) {
+                    for (T vertex : successorsAt(i)) {
+                        components.union(i, indexOf(vertex));
+                    }
+                }
+            }
+            componentsStale = false;
+        }
+        return components;
+    }
+
+    /**
+     * Determines whether the graph is connected, treating arcs as undirected.
+     *
+     * @return true if every vertex can reach every other ignoring arc direction
+     */
+    public boolean isConnected() {
+        return getNumComponents() <= 1;
+    }
+
+    /**
+     * Gets the component a vertex is in, treating arcs as undirected. Two
+     * vertices are in the same component exactly when this returns the same
+     * id for both; the ids themselves can change as the graph changes.
+     *
+     * @param v the vertex
+     * @return the id of v's component, or -1 if v is not in the graph
+     */
+    public int componentOf(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? -1 : components().find(index);
+    }
+
+    /**
+     * Checks the number of connected components, treating arcs as undirected.
+     *
+     * @return the number of components
+     */
+    public int getNumComponents() {
+        return components().getNumSets() - numDeleted; //every tombstone is a set of its own
+    }
+
     /**
      * Gets two levels of successors for a given vertex
      * 
@@ -209,10 +556,10 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @param v the vertex to check 
      */
     public LinkedList<T> getArcs(T v) {
-        LinkedList<T> allArcs = arcs.get(vertices.indexOf(v));
+        LinkedList<T> allArcs = successorsAt(indexOf(v));
         LinkedList<T> temp = new LinkedList<T>();
         for (T vertex : allArcs) {
-            temp.addAll(arcs.get(vertices.indexOf(vertex)));
+            temp.addAll(successorsAt(indexOf(vertex)));
         }
         return allArcs;
     }
@@ -225,7 +572,7 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @param v the vertex you want the successors of
      */
     public LinkedList<T> getSuccessors(T v){
-        LinkedList<T> successors = arcs.get(vertices.indexOf(v));
+        LinkedList<T> successors = successorsAt(indexOf(v));
         return successors;
     }
 
@@ -238,141 +585,200 @@ public class AdjListsGraph<T> implements Graph<T>{
      */
     public LinkedList<T> getPredecessors(T v){
         LinkedList<T> predecessors = new LinkedList<T>();
-        LinkedList<T> currentSuccessors;
-        T currentVertex;
-
-        for (int i = 0; i < vertices.size(); i++) {
-            currentVertex = vertices.get(i);
-            currentSuccessors = getSuccessors(currentVertex);
-            if (currentSuccessors.contains(v)){
-                predecessors.add(currentVertex);
-            }
+        int index = indexOf(v);
+        if (index != -1) {
+            predecessors.addAll(predecessorsAt(index));
         }
-
         return predecessors;
     }
 
     /**
-     * Creates a TGF file with the vertices and arcs of this graph.
+     * Checks how many arcs end at vertex v.
+     * 
+     * @return the number of predecessors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(T v){
+        int index = indexOf(v);
+        return (index == -1) ? 0 : predecessorsAt(index).size();
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     * 
+     * @return the number of successors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(T v){
+        int index = indexOf(v);
+        return (index == -1) ? 0 : arcSets.get(index).size();
+    }
+
+    /**
+     * Creates a binary graph file (see BinaryGraphFormat) with the vertices
+     * and arcs of this graph. It is much smaller than the TGF file and
+     * much faster to read back.
      * 
      * @param fileName the name you want the file to be saved with
      */
-    public void saveToTGF(String fileName){
+    public void saveToBinary(String fileName) {
         try {
-            PrintWriter w = new PrintWriter(new File(fileName));
-            String s = "";
-            // prints all the vertices in the right format
-            for (int i = 0; i < vertices.size(); i++) {
-                s += (i + 1) + " " + vertices.get(i) + "\n";
-            }
+            BinaryGraphFormat.write(freeze(), fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
 
-            s += "#";
+    /**
+     * Creates a TGF file with the vertices and arcs of this graph, streamed
+     * from the CSR snapshot by a GraphExporter. Vertices are numbered from 1.
+     * 
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName){
+        try {
+            new GraphExporter<T>(freeze()).saveToTGF(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }  
+    }
 
-            for (int i = 0; i < arcs.size(); i++) {
-                LinkedList<T> current = arcs.get(i);
-                for (T vertex : current) {
-                    if (isEdge(vertices.get(i), vertex)) {
-                        s += "\n" + i + " " + vertices.indexOf(vertex);
-                    }
-                }
-            }
+    /**
+     * Creates a GraphML file (which yEd can open) with the vertices and arcs
+     * of this graph.
+     * 
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToGraphML(String fileName){
+        try {
+            new GraphExporter<T>(freeze()).saveToGraphML(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
 
-            w.println(s);
-            w.close(); //for tidiness!
+    /**
+     * Creates an edge list file, one "from<tab>to" line per arc.
+     * 
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToEdgeList(String fileName){
+        try {
+            new GraphExporter<T>(freeze()).saveToEdgeList(fileName);
         }
         catch (IOException e) {
             System.out.println (e);
-        }  
+        }
     }
 
     /**
      * Performs a breadth-first traversal of the graph, beginning at the
-     * user-specificed vertex.
+     * user-specificed vertex. Runs in O(V + E) on the CSR snapshot of the
+     * graph; use a GraphTraversal directly to stop early or to avoid
+     * building the list.
      * 
      * @return a linked list with all vertexes visited in the traversal
      * @param v the vertex you want to begin your traversal from
      */
     public LinkedList<T> BFtraversal(T v){
-        LinkedList<T> path = new LinkedList<T>();
-        LinkedList<T> checked = new LinkedList<T>();
-        LinkedList<T> current = arcs.get(vertices.indexOf(v));
-        LinkedQueue<T> queue = new LinkedQueue<T>();
-
-        queue.enqueue(v);
-
-        while (queue.size() != 0) {
-            if (!checked.contains(v)) {
-                for (T vertex : arcs.get(vertices.indexOf(v))) {
-                    queue.enqueue(vertex);
-                }
-                checked.add(v);
-            }
-
-            T currentVertex = queue.dequeue();
-
-            if (!checked.contains(currentVertex)) {
-                for (T vertex : arcs.get(vertices.indexOf(currentVertex))) {
-                    queue.enqueue(vertex);
-                }
-                checked.add(currentVertex);
-            } 
-
-            if (!path.contains(currentVertex)) {
-                path.add(currentVertex);
-            }
-        }
+        return new GraphTraversal<T>(freeze()).BFtraversal(v);
+    }
 
-        return path;
+    /**
+     * Finds the hop distance from the user-specified vertex to every vertex
+     * of the graph with a single breadth-first pass. Any tombstones are
+     * compacted away first, so the graph's own vertex indices and those of
+     * freeze() are the same, and freeze().vertexAt(i) is the vertex whose
+     * distance is at [i].
+     *
+     * @return an array keyed by vertex index with the number of arcs on a
+     * shortest path from v to each vertex, or -1 where there is no path
+     * @param v the vertex you want to measure distances from
+     */
+    public int[] BFdistances(T v) {
+        compact();
+        return new GraphTraversal<T>(freeze()).distances(v);
     }
 
     /**
      * Performs a depth-first traversal of the graph, beginning at the
-     * user-specificed vertex.
+     * user-specificed vertex. From each vertex it moves on to the unvisited 
+     * successor with the lowest index. Runs in O(V + E) on the CSR snapshot
+     * of the graph.
      * 
      * @return a linked list with all vertexes visited in the traversal
      * @param v the vertex you want to begin your traversal from
      */
     public LinkedList<T> DFtraversal(T v)
     {
-        int startIndex = vertices.indexOf(v);
-        T currentVertex; 
-        LinkedStack<T> traversalStack = new LinkedStack<T>();
-        ArrayIterator<T> iter = new ArrayIterator<T>(); 
-        boolean[] visited = new boolean[vertices.size()]; 
-        boolean found;
-        LinkedList<T> results = new LinkedList<T>();
-
-        if (!vertices.contains(v))
-            return results;
-
-        for (int vertexIdx = 0; vertexIdx < vertices.size(); vertexIdx++)
-            visited[vertexIdx] = false;
-
-        traversalStack.push(vertices.get(startIndex)); 
-        iter.add(vertices.get(startIndex)); 
-        visited[startIndex] = true;
-
-        while (!traversalStack.isEmpty()) {
-            currentVertex = traversalStack.peek(); 
-            found = false;
-            for (int vertexIdx = 0; vertexIdx < vertices.size() && !found; vertexIdx++)
-                if (isArc((currentVertex),(vertices.get(vertexIdx))) && !visited [vertexIdx]) {
-                    traversalStack.push(vertices.get(vertexIdx)); 
-                    iter.add(vertices.get(vertexIdx)); 
-                    visited[vertexIdx] = true; 
-                    found = true;
-                }
-            if (!found && !traversalStack.isEmpty()) 
-                traversalStack.pop();
+        return new GraphTraversal<T>(freeze()).DFtraversal(v);
+    }
+
+    /**
+     * Makes an immutable compressed sparse row copy of this graph. Later
+     * changes to this graph do not affect the snapshot. The copy is kept
+     * and handed out again until the graph next changes.
+     *
+     * @return a CSRGraph with the same vertices, arcs and weights, and the
+     * same vertex indices unless vertices have been removed since the last
+     * compact()
+     */
+    public CSRGraph<T> freeze() {
+        if (snapshot != null) {
+            return snapshot;
         }
 
-        for (T element : iter.toArray()) {
-            if (element != null) {
-                results.add(element);
+        // numbers the vertices that are left densely, skipping tombstones
+        int numVertices = getNumVertices();
+        int[] newIndex = new int[vertices.size()];
+        @SuppressWarnings("unchecked")
+        T[] labels = (T[]) new Object[numVertices];
+        int count = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            if (!deleted.get(i)) {
+                labels[count] = vertices.get(i);
+                newIndex[i] = count++;
             }
         }
+        int[] offsets = new int[numVertices + 1];
+        int[] targets = new int[getNumArcs()];
+        int[] weights = weighted ? new int[targets.length] : null;
 
-        return results;
+        int position = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            if (deleted.get(i)) {
+                continue;
+            }
+            offsets[newIndex[i]] = position;
+            for (T vertex : successorsAt(i)) {
+                int successor = indexOf(vertex);
+                if (weights != null) {
+                    weights[position] = arcSets.get(i).weightOf(successor);
+                }
+                targets[position++] = newIndex[successor];
+            }
+            //rows are kept sorted for binary search
+            CSRGraph.sortRow(targets, weights, offsets[newIndex[i]], position);
+        }
+        offsets[numVertices] = position;
+
+        snapshot = new CSRGraph<T>(labels, offsets, targets, weights);
+        return snapshot;
+    }
+
+    /**
+     * Makes a read-only view of some of the vertices of this graph and the
+     * arcs between them, without copying any arcs. The view reads from the
+     * CSR snapshot, so later changes to this graph do not show in it.
+     *
+     * @param chosen the vertices to keep
+     * @return a SubgraphView of them
+     */
+    public SubgraphView<T> subgraph(Collection<T> chosen) {
+        return SubgraphView.induced(freeze(), chosen);
     }
 
     /**
@@ -381,13 +787,40 @@ public class AdjListsGraph<T> implements Graph<T>{
      * @return a string representation of the graph
      */
     public String toString() {
-        String result = "Vertices:\n" + vertices + "\nEdges:\n";
+        Vector<T> live = new Vector<T>(getNumVertices());
         for (int i = 0; i < vertices.size(); i++) {
-            result += "from " + vertices.get(i) + ":\t" + arcs.get(i) + "\n";
+            if (!deleted.get(i)) {
+                live.add(vertices.get(i));
+            }
+        }
+        String result = "Vertices:\n" + live + "\nEdges:\n";
+        for (int i = 0; i < vertices.size(); i++) {
+            if (!deleted.get(i)) {
+                result += "from " + vertices.get(i) + ":\t" + successorsAt(i) + "\n";
+            }
         }
         return result;
     }
 
+    /**
+     * Builds from scratch the graph that should be left after removing
+     * vertices, with no tombstones in it.
+     */
+    private static AdjListsGraph<Integer> without(int[][] arcs, Set<Integer> removed) {
+        AdjListsGraph<Integer> expected = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 400; v++) {
+            if (!removed.contains(v)) {
+                expected.addVertex(v);
+            }
+        }
+        for (int[] arc : arcs) {
+            if (!removed.contains(arc[0]) && !removed.contains(arc[1])) {
+                expected.addArc(arc[0], arc[1], arc[2]);
+            }
+        }
+        return expected;
+    }
+
     public static void main(String args[]) {
         AdjListsGraph<String> g = new AdjListsGraph<String>();
 
@@ -518,5 +951,53 @@ public class AdjListsGraph<T> implements Graph<T>{
         System.out.println("\nTesting DFtraversal() with A:\t" + g.DFtraversal("A"));
 
         //g.saveToTGF("GraphOutput.tgf");
+    
+
+        // removes vertices, leaving tombstones, and checks against a graph built without them
+        AdjListsGraph<Integer> h = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 400; v++) {
+            h.addVertex(v);
+        }
+        Random random = new Random(230);
+        int[][] arcs = new int[4000][];
+        for (int i = 0; i < arcs.length; i++) {
+            arcs[i] = new int[] {random.nextInt(400), random.nextInt(400), 1 + random.nextInt(5)};
+            h.addArc(arcs[i][0], arcs[i][1], arcs[i][2]);
+        }
+        for (int[] arc : arcs) {
+            arc[2] = h.getWeight(arc[0], arc[1]); //a repeated arc keeps the weight it was given last
+        }
+        Set<Integer> removed = new HashSet<Integer>();
+        for (int v = 0; v < 400; v += 3) {
+            h.removeVertex(v);
+            removed.add(v);
+        }
+        AdjListsGraph<Integer> expected = without(arcs, removed);
+        System.out.println("\nTesting removeVertex() against a graph built without the vertices:\t"
+            + (GraphChecks.sameArcs(h.freeze(), expected) && GraphChecks.sameArcs(h, expected, expected.vertices)));
+        h.compact();
+        System.out.println("Testing compact() against a graph built without the vertices:\t"
+            + (GraphChecks.sameArcs(h.freeze(), expected) && h.numDeleted == 0));
+        for (int v = 1; v < 400; v += 2) {
+            if (!removed.contains(v)) {
+                h.removeVertex(v); //past half of the indices, so it compacts by itself
+                removed.add(v);
+            }
+        }
+        expected = without(arcs, removed);
+        System.out.println("Testing removing most vertices against a graph built without them:\t"
+            + (GraphChecks.sameArcs(h.freeze(), expected) && GraphChecks.sameArcs(h, expected, expected.vertices)
+               && h.numDeleted * 2 <= h.getNumVertices() + h.numDeleted));
+
+        h.removeVertex(h.freeze().vertexAt(0)); //leaves a tombstone before the start
+        Integer start = h.freeze().vertexAt(0);
+        int[] dist = h.BFdistances(start);
+        Map<Integer,Integer> reached = GraphChecks.plainDistances(h, start);
+        boolean same = dist.length == h.getNumVertices() && h.numDeleted == 0; //indices are the graph's own again
+        for (int i = 0; same && i < dist.length; i++) {
+            Integer d = reached.get(h.freeze().vertexAt(i));
+            same = dist[i] == ((d == null) ? -1 : d);
+        }
+        System.out.println("Testing BFdistances() with tombstones against a plain BFS:\t" + same);
     }
 }
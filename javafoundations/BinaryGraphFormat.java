@@ -0,0 +1,458 @@
+/**
+ * Reads and writes graphs in a compact binary file format, as a faster and
+ * smaller alternative to TGF. A file is
+ *
+ *     header       the magic number "GRPB", the format version, a flags
+ *                  byte, then the numbers of vertices and of stored arcs
+ *     dictionary   every vertex label in index order, as its length
+ *                  followed by its UTF-8 bytes
+ *     adjacency    every vertex's sorted successors, as the degree, the
+ *                  first successor, then the gap to each next successor,
+ *                  then (only if the WEIGHTED flag is set) the weight of
+ *                  the arc to each of those successors
+ *
+ * All numbers after the magic number and version are unsigned varints
+ * (7 bits per byte, the high bit set on every byte but the last), so small
+ * numbers such as the gaps in a sorted row mostly take one byte. When the
+ * graph is undirected the UNDIRECTED flag is set and each edge is stored
+ * only once, in the row of its lower vertex; the reader adds the arcs back
+ * in the other direction. The WEIGHTED flag is set when some arc has a
+ * weight other than 1; a weighted graph is only stored as undirected if
+ * the two arcs of every edge have the same weight. Weights are varints of
+ * their bits, so a negative weight takes five bytes.
+ *
+ * Labels are written with toString(), and read back as Strings.
+ * GraphBuilder.buildBinary turns them back into objects.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+public class BinaryGraphFormat {
+    public static final int MAGIC = 0x47525042; //"GRPB"
+    public static final int FORMAT_VERSION = 1;
+    public static final int UNDIRECTED = 1; //flag: each edge is stored once, from its lower vertex
+    public static final int WEIGHTED = 2; //flag: every row is followed by the weights of its arcs
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // instance variables, for writing
+    private OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    /**
+     * Constructor for objects of class BinaryGraphFormat, used while
+     * writing a file.
+     *
+     * @param out where the bytes go
+     */
+    private BinaryGraphFormat(OutputStream out) {
+        this.out = out;
+        buffer = new byte[BUFFER_SIZE];
+        position = 0;
+    }
+
+    /**
+     * Writes a graph to a binary graph file. Vertices keep their indices,
+     * and arcs their weights.
+     *
+     * @param graph the graph to write
+     * @param fileName the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(IndexedGraph<?> graph, String fileName) throws IOException {
+        int n = graph.getNumVertices();
+
+        // sorts every row, with its weights once some arc has a weight other than 1
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[graph.getNumArcs()];
+        int[] weights = null;
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            offsets[i] = count;
+            for (int k = 0; k < graph.outDegreeAt(i); k++) {
+                int weight = graph.weightAt(i, k);
+                if (weight != 1 && weights == null) {
+                    weights = new int[targets.length];
+                    Arrays.fill(weights, 1); //the arcs so far all had weight 1
+                }
+                if (weights != null) {
+                    weights[count] = weight;
+                }
+                targets[count++] = graph.successorAt(i, k);
+            }
+            CSRGraph.sortRow(targets, weights, offsets[i], count);
+        }
+        offsets[n] = count;
+
+        // keeps only the upper half of an undirected graph
+        boolean undirected = graph.isUndirected() && (weights == null || symmetricWeights(offsets, targets, weights));
+        int[] firstKept = new int[n]; //key = vertex index, value = first arc of its row that is written
+        int stored = 0;
+        for (int i = 0; i < n; i++) {
+            int k = offsets[i];
+            while (undirected && k < offsets[i + 1] && targets[k] < i) {
+                k++;
+            }
+            firstKept[i] = k;
+            stored += offsets[i + 1] - k;
+        }
+
+        try (FileOutputStream file = new FileOutputStream(fileName)) {
+            BinaryGraphFormat writer = new BinaryGraphFormat(file);
+            writer.writeInt(MAGIC);
+            writer.writeInt(FORMAT_VERSION);
+            writer.writeVarint((undirected ? UNDIRECTED : 0) | (weights != null ? WEIGHTED : 0));
+            writer.writeVarint(n);
+            writer.writeVarint(stored);
+
+            for (int i = 0; i < n; i++) {
+                byte[] label = String.valueOf(graph.vertexAt(i)).getBytes(StandardCharsets.UTF_8);
+                writer.writeVarint(label.length);
+                writer.writeBytes(label);
+            }
+
+            for (int i = 0; i < n; i++) {
+                writer.writeVarint(offsets[i + 1] - firstKept[i]);
+                int previous = 0;
+                for (int k = firstKept[i]; k < offsets[i + 1]; k++) {
+                    writer.writeVarint(targets[k] - previous); //the first is the target itself
+                    previous = targets[k];
+                }
+                if (weights != null) {
+                    for (int k = firstKept[i]; k < offsets[i + 1]; k++) {
+                        writer.writeVarint(weights[k]);
+                    }
+                }
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Checks that the two arcs of every edge of an undirected graph have
+     * the same weight.
+     *
+     * @param offsets the row starts
+     * @param targets the sorted rows
+     * @param weights the weights parallel to targets
+     * @return true if every arc has the weight of the arc back
+     */
+    private static boolean symmetricWeights(int[] offsets, int[] targets, int[] weights) {
+        for (int i = 0; i < offsets.length - 1; i++) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                int target = targets[k];
+                if (target > i) {
+                    int back = Arrays.binarySearch(targets, offsets[target], offsets[target + 1], i);
+                    if (back < 0 || weights[back] != weights[k]) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes an int as four bytes, high byte first.
+     */
+    private void writeInt(int value) throws IOException {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            writeByte(value >>> shift);
+        }
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint.
+     */
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    /**
+     * Writes one byte.
+     */
+    private void writeByte(int value) throws IOException {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Writes an array of bytes.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (position + bytes.length > buffer.length) {
+            flush();
+        }
+        if (bytes.length > buffer.length) {
+            out.write(bytes);
+        } else {
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+    }
+
+    /**
+     * Writes out whatever is in the buffer.
+     */
+    private void flush() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    /**
+     * Reads a binary graph file.
+     *
+     * @param fileName the file to read
+     * @return a snapshot of the graph in the file, with its labels as Strings
+     * and its weights, if it has any
+     * @throws IOException if the file cannot be read or is not a binary graph file
+     */
+    public static CSRGraph<String> read(String fileName) throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(fileName));
+        int[] cursor = new int[1]; //position of the next byte to read
+
+        if (bytes.length < 8 || readInt(bytes, 0) != MAGIC) {
+            throw new IOException(fileName + " is not a binary graph file.");
+        }
+        if (readInt(bytes, 4) != FORMAT_VERSION) {
+            throw new IOException(fileName + " has an unknown format version.");
+        }
+        cursor[0] = 8;
+        int flags = readVarint(bytes, cursor);
+        if ((flags & ~(UNDIRECTED | WEIGHTED)) != 0) {
+            throw new IOException(fileName + " uses flags this version cannot read.");
+        }
+        int n = readVarint(bytes, cursor);
+        int stored = readVarint(bytes, cursor);
+        // every label and every stored arc takes at least a byte, so larger counts are corrupt
+        if (n < 0 || n > bytes.length || stored < 0 || stored > bytes.length) {
+            throw new IOException(fileName + " is corrupt: it claims " + n + " vertices and " + stored + " arcs.");
+        }
+
+        String[] labels = new String[n];
+        for (int i = 0; i < n; i++) {
+            int length = readVarint(bytes, cursor);
+            if (length < 0 || length > bytes.length - cursor[0]) {
+                throw new IOException(fileName + " is corrupt: the label of vertex " + i + " runs past the end.");
+            }
+            labels[i] = new String(bytes, cursor[0], length, StandardCharsets.UTF_8);
+            cursor[0] += length;
+        }
+
+        boolean undirected = (flags & UNDIRECTED) != 0;
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[stored];
+        int[] weights = ((flags & WEIGHTED) != 0) ? new int[stored] : null;
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            offsets[i] = count;
+            int degree = readVarint(bytes, cursor);
+            if (degree < 0 || degree > stored - count) {
+                throw new IOException(fileName + " is corrupt: it has more arcs than the " + stored + " it claims.");
+            }
+            int target = 0;
+            for (int k = 0; k < degree; k++) {
+                int gap = readVarint(bytes, cursor);
+                target += gap;
+                // rows are sorted without repeats, and an upper half starts at the vertex itself
+                if ((k > 0 && gap <= 0) || target < (undirected ? i : 0) || target >= n) {
+                    throw new IOException(fileName + " is corrupt: vertex " + i + " has an arc to a vertex out of place.");
+                }
+                targets[count++] = target;
+            }
+            if (weights != null) {
+                for (int k = count - degree; k < count; k++) {
+                    weights[k] = readVarint(bytes, cursor);
+                }
+            }
+        }
+        if (count != stored) {
+            throw new IOException(fileName + " is corrupt: it has fewer arcs than the " + stored + " it claims.");
+        }
+        offsets[n] = count;
+
+        if (undirected) {
+            int[] fullOffsets = symmetricOffsets(offsets, targets);
+            int[] fullWeights = (weights == null) ? null : new int[fullOffsets[n]];
+            int[] fullTargets = symmetricTargets(offsets, targets, weights, fullOffsets, fullWeights);
+            return new CSRGraph<String>(labels, fullOffsets, fullTargets, fullWeights);
+        }
+        return new CSRGraph<String>(labels, offsets, targets, weights);
+    }
+
+    /**
+     * Counts the full rows of an undirected graph stored as upper halves.
+     *
+     * @param offsets the row starts of the upper halves
+     * @param targets the upper halves
+     * @return the row starts of the full rows
+     */
+    private static int[] symmetricOffsets(int[] offsets, int[] targets) {
+        int n = offsets.length - 1;
+        int[] full = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                full[i + 1]++;
+                if (targets[k] != i) {
+                    full[targets[k] + 1]++; //the arc back, except for a self-loop
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            full[i + 1] += full[i];
+        }
+        return full;
+    }
+
+    /**
+     * Fills in the full rows of an undirected graph stored as upper halves.
+     * Going through the vertices in order puts each row's lower neighbours
+     * first, in increasing order, ahead of its own (already sorted) upper
+     * half, so the full rows come out sorted.
+     *
+     * @param offsets the row starts of the upper halves
+     * @param targets the upper halves
+     * @param weights the weights of the upper halves, or null if unweighted
+     * @param full the row starts of the full rows
+     * @param fullWeights filled in with the weights of the full rows, or null if unweighted
+     * @return the full rows
+     */
+    private static int[] symmetricTargets(int[] offsets, int[] targets, int[] weights, int[] full, int[] fullWeights) {
+        int n = offsets.length - 1;
+        int[] fill = Arrays.copyOf(full, n);
+        int[] result = new int[full[n]];
+        for (int i = 0; i < n; i++) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                if (weights != null) {
+                    fullWeights[fill[i]] = weights[k];
+                }
+                result[fill[i]++] = targets[k];
+                if (targets[k] != i) {
+                    if (weights != null) {
+                        fullWeights[fill[targets[k]]] = weights[k]; //the arc back has the same weight
+                    }
+                    result[fill[targets[k]]++] = i;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads an int stored as four bytes, high byte first.
+     */
+    private static int readInt(byte[] bytes, int at) {
+        return ((bytes[at] & 0xFF) << 24) | ((bytes[at + 1] & 0xFF) << 16)
+            | ((bytes[at + 2] & 0xFF) << 8) | (bytes[at + 3] & 0xFF);
+    }
+
+    /**
+     * Reads an unsigned varint and moves the cursor past it.
+     *
+     * @throws IOException if the bytes run out, or the varint is longer
+     * than the five bytes an int can take
+     */
+    private static int readVarint(byte[] bytes, int[] cursor) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (cursor[0] == bytes.length) {
+                throw new IOException("Binary graph file ends in the middle of a number.");
+            }
+            if (shift > 28) {
+                throw new IOException("Binary graph file has a number longer than five bytes.");
+            }
+            b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Checks that reading a file fails with an IOException.
+     */
+    private static boolean rejects(byte[] bytes) throws IOException {
+        File file = File.createTempFile("BinaryGraphFormat", ".grb");
+        file.deleteOnExit();
+        Files.write(file.toPath(), bytes);
+        try {
+            read(file.getPath());
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // a directed graph, with some negative weights, through TGF first
+        AdjListsGraph<String> directed = new AdjListsGraph<String>();
+        AdjListsGraph<String> undirected = new AdjListsGraph<String>();
+        for (int v = 0; v < 400; v++) {
+            directed.addVertex("v" + v);
+            undirected.addVertex("v" + v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 6000; i++) {
+            String v1 = "v" + random.nextInt(400);
+            String v2 = "v" + random.nextInt(400);
+            int weight = random.nextInt(21) - 10;
+            if (i % 3 == 0) {
+                directed.addArc(v1, v2, weight);
+            } else {
+                directed.addArc(v1, v2);
+            }
+            undirected.addArc(v1, v2, weight); //the same weight both ways
+            undirected.addArc(v2, v1, weight);
+        }
+        File tgf = File.createTempFile("BinaryGraphFormat", ".tgf");
+        File binary = File.createTempFile("BinaryGraphFormat", ".grb");
+        tgf.deleteOnExit();
+        binary.deleteOnExit();
+        directed.saveToTGF(tgf.getPath());
+        write(TGFLoader.load(tgf.getPath()), binary.getPath());
+        System.out.println("Testing write() and read() against AdjListsGraph:\t" + GraphChecks.sameArcs(read(binary.getPath()), directed));
+        write(undirected.freeze(), binary.getPath());
+        CSRGraph<String> g = read(binary.getPath());
+        System.out.println("Testing write() and read() of an undirected graph against AdjListsGraph:\t"
+            + (GraphChecks.sameArcs(g, undirected) && g.isUndirected()));
+
+        // varints either side of each byte boundary, and negative numbers
+        int[] values = {0, 1, 127, 128, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryGraphFormat writer = new BinaryGraphFormat(out);
+        for (int value : values) {
+            writer.writeVarint(value);
+        }
+        writer.flush();
+        byte[] bytes = out.toByteArray();
+        int[] cursor = new int[1];
+        boolean same = true;
+        for (int value : values) {
+            same = same && readVarint(bytes, cursor) == value;
+        }
+        System.out.println("Testing writeVarint() and readVarint():\t" + (same && cursor[0] == bytes.length));
+
+        // a file cut short, one with a six byte varint, and one with an arc to a missing vertex
+        bytes = Files.readAllBytes(binary.toPath());
+        byte[] tooLong = {0x47, 0x52, 0x50, 0x42, 0, 0, 0, 1, 0, (byte) 0x81, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0};
+        byte[] badTarget = {0x47, 0x52, 0x50, 0x42, 0, 0, 0, 1, 0, 1, 1, 1, 'A', 1, 5};
+        System.out.println("Testing read() rejects corrupt files:\t"
+            + (rejects(Arrays.copyOf(bytes, bytes.length - 3)) && rejects(tooLong) && rejects(badTarget)));
+    }
+}
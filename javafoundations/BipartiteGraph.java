@@ -0,0 +1,1307 @@
+/**
+ * An undirected bipartite graph, such as the graph of RATs (left) and the
+ * stories they tweeted about (right). Each side numbers its vertices
+ * densely from 0, and every edge is stored once in the incidence lists of
+ * the left side (left -> right local ids) and once in its transpose
+ * (right -> left local ids), as plain int arrays.
+ *
+ * For the Graph and IndexedGraph interfaces the vertices also get a global
+ * index, in the order they were added, and a side tag kept in a byte array,
+ * so telling which side a vertex is on never needs a hash lookup. An edge
+ * counts as two arcs, one in each direction.
+ *
+ * addLeft and addRight say which side a vertex goes on. Code written for
+ * any Graph, which only knows addVertex, gets the side from a policy given
+ * to the constructor; by default every such vertex goes on the left.
+ *
+ * A row longer than SCAN_LIMIT also gets a hash index from neighbour to
+ * its place in the row, built the first time the row is searched and kept
+ * up to date from then on, so checking for an edge before adding it is
+ * O(1) even between two hubs, instead of a scan of the shorter row.
+ *
+ * An edge can carry an int weight, such as how many times a RAT tweeted
+ * about a story, given with addEdge(v1, v2, weight). The weights are kept
+ * in int arrays parallel to the incidence lists of both sides, made only
+ * once some edge has a weight other than 1; until then every weight is 1.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.io.*;
+
+public class BipartiteGraph<T> implements IndexedGraph<T> {
+    public static final byte LEFT = 0;
+    public static final byte RIGHT = 1;
+    static final int SCAN_LIMIT = 8; //longest row searched without an index
+
+    // instance variables
+    protected T[] labels; //key = global index, value = vertex
+    protected Hashtable<T,Integer> ids; //key = vertex, value = global index
+    protected byte[] sides; //key = global index, value = LEFT or RIGHT
+    protected int[] localIds; //key = global index, value = index within its side
+    protected int numVertices;
+    protected Predicate<? super T> sidePolicy; //true for the vertices addVertex puts on the left
+
+    protected int[] leftGlobal; //key = left local id, value = global index
+    protected int[][] leftAdj; //key = left local id, value = right local ids of its neighbours
+    protected int[] leftDeg;
+    protected int[][] leftWeights; //key = left local id, value = weights parallel to its leftAdj row; null while all are 1
+    protected IntIndexMap[] leftPositions; //key = left local id, value = right local id -> place in its leftAdj row; null until needed
+    protected int numLeft;
+
+    protected int[] rightGlobal; //key = right local id, value = global index
+    protected int[][] rightAdj; //key = right local id, value = left local ids of its neighbours
+    protected int[] rightDeg;
+    protected int[][] rightWeights; //key = right local id, value = weights parallel to its rightAdj row; null while all are 1
+    protected IntIndexMap[] rightPositions; //key = right local id, value = left local id -> place in its rightAdj row; null until needed
+    protected int numRight;
+
+    protected int numEdges;
+    protected int leftRowCapacity; //how many neighbours a new left vertex has room for
+    protected int rightRowCapacity; //how many neighbours a new right vertex has room for
+
+    protected UnionFind components; //connected components, kept up to date as vertices and edges are added
+    protected boolean componentsStale; //true once a removal has made components out of date
+
+    // scratch space for the hop metrics, reused between calls
+    private int[] leftQueue;
+    private int[] rightQueue;
+
+    /**
+     * Constructor for objects of class BipartiteGraph. addVertex puts every
+     * vertex on the left side.
+     */
+    public BipartiteGraph() {
+        this(v -> true);
+    }
+
+    /**
+     * Constructor for objects of class BipartiteGraph, with a policy for
+     * which side addVertex puts a vertex on.
+     *
+     * @param isLeft true for the vertices that go on the left side
+     */
+    public BipartiteGraph(Predicate<? super T> isLeft) {
+        sidePolicy = isLeft;
+        @SuppressWarnings("unchecked")
+        T[] initial = (T[]) new Object[16];
+        labels = initial;
+        ids = new Hashtable<T,Integer>();
+        sides = new byte[16];
+        localIds = new int[16];
+        leftGlobal = new int[16];
+        leftAdj = new int[16][];
+        leftPositions = new IntIndexMap[16];
+        leftDeg = new int[16];
+        rightGlobal = new int[16];
+        rightAdj = new int[16][];
+        rightPositions = new IntIndexMap[16];
+        rightDeg = new int[16];
+        leftQueue = new int[0];
+        rightQueue = new int[0];
+        components = new UnionFind(0);
+        componentsStale = false;
+        leftRowCapacity = 4;
+        rightRowCapacity = 4;
+    }
+
+    /**
+     * Adds a vertex to the left side of the graph.
+     *
+     * @param v the vertex to be added
+     * @return the global index of v, or -1 if v is already on the right side
+     */
+    public int addLeft(T v) {
+        return add(v, LEFT);
+    }
+
+    /**
+     * Adds a vertex to the right side of the graph.
+     *
+     * @param v the vertex to be added
+     * @return the global index of v, or -1 if v is already on the left side
+     */
+    public int addRight(T v) {
+        return add(v, RIGHT);
+    }
+
+    /**
+     * Adds a vertex to one side of the graph, if it is not already there.
+     *
+     * @param v the vertex to be added
+     * @param side LEFT or RIGHT
+     * @return the global index of v, or -1 if v is already on the other side
+     */
+    protected int add(T v, byte side) {
+        Integer existing = ids.get(v);
+        if (existing != null) {
+            if (sides[existing] != side) {
+                System.out.println("Tried to add " + v + " to both sides of a bipartite graph.");
+                return -1;
+            }
+            return existing;
+        }
+
+        if (numVertices == labels.length) {
+            labels = Arrays.copyOf(labels, numVertices * 2);
+            sides = Arrays.copyOf(sides, numVertices * 2);
+            localIds = Arrays.copyOf(localIds, numVertices * 2);
+        }
+        int index = numVertices++;
+        labels[index] = v;
+        sides[index] = side;
+        ids.put(v, index);
+        if (!componentsStale) {
+            components.add(); //the new vertex is a component of its own
+        }
+
+        if (side == LEFT) {
+            if (numLeft == leftGlobal.length) {
+                leftGlobal = Arrays.copyOf(leftGlobal, numLeft * 2);
+                leftAdj = Arrays.copyOf(leftAdj, numLeft * 2);
+                leftPositions = Arrays.copyOf(leftPositions, numLeft * 2);
+                leftDeg = Arrays.copyOf(leftDeg, numLeft * 2);
+                if (leftWeights != null) {
+                    leftWeights = Arrays.copyOf(leftWeights, numLeft * 2);
+                }
+            }
+            leftGlobal[numLeft] = index;
+            leftAdj[numLeft] = new int[leftRowCapacity];
+            leftPositions[numLeft] = null;
+            if (leftWeights != null) {
+                leftWeights[numLeft] = new int[leftRowCapacity];
+            }
+            leftDeg[numLeft] = 0;
+            localIds[index] = numLeft++;
+        } else {
+            if (numRight == rightGlobal.length) {
+                rightGlobal = Arrays.copyOf(rightGlobal, numRight * 2);
+                rightAdj = Arrays.copyOf(rightAdj, numRight * 2);
+                rightPositions = Arrays.copyOf(rightPositions, numRight * 2);
+                rightDeg = Arrays.copyOf(rightDeg, numRight * 2);
+                if (rightWeights != null) {
+                    rightWeights = Arrays.copyOf(rightWeights, numRight * 2);
+                }
+            }
+            rightGlobal[numRight] = index;
+            rightAdj[numRight] = new int[rightRowCapacity];
+            rightPositions[numRight] = null;
+            if (rightWeights != null) {
+                rightWeights[numRight] = new int[rightRowCapacity];
+            }
+            rightDeg[numRight] = 0;
+            localIds[index] = numRight++;
+        }
+        return index;
+    }
+
+    /**
+     * Grows the storage ahead of a batch of additions: the per-vertex
+     * arrays of both sides, the index table, and the rows of vertices added
+     * from now on to the average degree of their side, so they do not have
+     * to double their way up to it.
+     *
+     * @param numLeft how many left vertices the graph is expected to hold
+     * @param numRight how many right vertices the graph is expected to hold
+     * @param numEdges how many edges the graph is expected to hold
+     */
+    public void ensureCapacity(int numLeft, int numRight, int numEdges) {
+        int total = numLeft + numRight;
+        if (total > labels.length) {
+            labels = Arrays.copyOf(labels, total);
+            sides = Arrays.copyOf(sides, total);
+            localIds = Arrays.copyOf(localIds, total);
+            Hashtable<T,Integer> bigger = new Hashtable<T,Integer>(total * 2);
+            bigger.putAll(ids);
+            ids = bigger;
+        }
+        if (numLeft > leftGlobal.length) {
+            leftGlobal = Arrays.copyOf(leftGlobal, numLeft);
+            leftAdj = Arrays.copyOf(leftAdj, numLeft);
+            leftPositions = Arrays.copyOf(leftPositions, numLeft);
+            leftDeg = Arrays.copyOf(leftDeg, numLeft);
+            if (leftWeights != null) {
+                leftWeights = Arrays.copyOf(leftWeights, numLeft);
+            }
+        }
+        if (numRight > rightGlobal.length) {
+            rightGlobal = Arrays.copyOf(rightGlobal, numRight);
+            rightAdj = Arrays.copyOf(rightAdj, numRight);
+            rightPositions = Arrays.copyOf(rightPositions, numRight);
+            rightDeg = Arrays.copyOf(rightDeg, numRight);
+            if (rightWeights != null) {
+                rightWeights = Arrays.copyOf(rightWeights, numRight);
+            }
+        }
+        if (numLeft > 0) {
+            leftRowCapacity = Math.max(4, (int) Math.min(1 << 16, (long) numEdges / numLeft));
+        }
+        if (numRight > 0) {
+            rightRowCapacity = Math.max(4, (int) Math.min(1 << 16, (long) numEdges / numRight));
+        }
+    }
+
+    /**
+     * Grows the storage ahead of a batch of additions, when it is not known
+     * how the vertices will be split between the sides. Room is made as if
+     * they all went on the left, and new rows on either side are sized to
+     * the average degree numArcs / numVertices (an edge is an arc each way,
+     * and each arc is one entry in a row).
+     *
+     * @param numVertices how many vertices the graph is expected to hold
+     * @param numArcs how many arcs the graph is expected to hold
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+        ensureCapacity(numVertices, 0, numArcs);
+        if (numVertices > 0) {
+            rightRowCapacity = leftRowCapacity;
+        }
+    }
+
+    /**
+     * Looks up the global index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the global index of v, or -1 if v is not in the graph
+     */
+    public int indexOf(T v) {
+        Integer index = ids.get(v);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Gets the vertex with a global index.
+     *
+     * @param index the global index of the vertex
+     * @return the vertex with that index
+     */
+    public T vertexAt(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Checks which side a vertex is on.
+     *
+     * @param index the global index of the vertex
+     * @return LEFT or RIGHT
+     */
+    public byte sideAt(int index) {
+        return sides[index];
+    }
+
+    /**
+     * Checks whether a vertex is on the left side.
+     *
+     * @param v the vertex to check
+     * @return true if v is a left vertex, false if it is a right vertex or
+     * is not in the graph
+     */
+    public boolean isLeft(T v) {
+        int index = indexOf(v);
+        return index != -1 && sides[index] == LEFT;
+    }
+
+    /**
+     * Checks whether a vertex is on the right side.
+     *
+     * @param v the vertex to check
+     * @return true if v is a right vertex, false if it is a left vertex or
+     * is not in the graph
+     */
+    public boolean isRight(T v) {
+        int index = indexOf(v);
+        return index != -1 && sides[index] == RIGHT;
+    }
+
+    /**
+     * Checks the number of vertices on the left side.
+     *
+     * @return the number of left vertices
+     */
+    public int getNumLeft() {
+        return numLeft;
+    }
+
+    /**
+     * Checks the number of vertices on the right side.
+     *
+     * @return the number of right vertices
+     */
+    public int getNumRight() {
+        return numRight;
+    }
+
+    /**
+     * Checks the number of (undirected) edges.
+     *
+     * @return the number of edges, half the number of arcs
+     */
+    public int getNumEdges() {
+        return numEdges;
+    }
+
+    /**
+     * Checks how many neighbours the vertex at a global index has.
+     *
+     * @param index the global index of the vertex
+     * @return the degree of that vertex
+     */
+    public int outDegreeAt(int index) {
+        return (sides[index] == LEFT) ? leftDeg[localIds[index]] : rightDeg[localIds[index]];
+    }
+
+    /**
+     * Gets one neighbour of the vertex at a global index.
+     *
+     * @param index the global index of the vertex
+     * @param k which neighbour to get, from 0 to outDegreeAt(index) - 1
+     * @return the global index of the k-th neighbour
+     */
+    public int successorAt(int index, int k) {
+        int local = localIds[index];
+        return (sides[index] == LEFT) ? rightGlobal[leftAdj[local][k]] : leftGlobal[rightAdj[local][k]];
+    }
+
+    /**
+     * Gets the weight of the edge to one neighbour of the vertex at a
+     * global index.
+     *
+     * @param index the global index of the vertex
+     * @param k which neighbour, from 0 to outDegreeAt(index) - 1
+     * @return the weight of the edge to successorAt(index, k)
+     */
+    public int weightAt(int index, int k) {
+        if (leftWeights == null) {
+            return 1;
+        }
+        int local = localIds[index];
+        return (sides[index] == LEFT) ? leftWeights[local][k] : rightWeights[local][k];
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph. Every edge is two arcs.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        return 2 * numEdges;
+    }
+
+    /**
+     * Finds where a value sits in a row. A row longer than SCAN_LIMIT is
+     * looked up in its index, which is built here the first time.
+     *
+     * @param rows the rows of one side
+     * @param positions the indices of those rows
+     * @param degrees the number of used slots in each row
+     * @param local which row
+     * @param value the value to look for
+     * @return the position of value, or -1
+     */
+    private static int find(int[][] rows, IntIndexMap[] positions, int[] degrees, int local, int value) {
+        int[] row = rows[local];
+        if (degrees[local] <= SCAN_LIMIT) {
+            for (int k = 0; k < degrees[local]; k++) {
+                if (row[k] == value) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+        if (positions[local] == null) {
+            IntIndexMap index = new IntIndexMap(degrees[local] * 2);
+            for (int k = 0; k < degrees[local]; k++) {
+                index.put(row[k], k);
+            }
+            positions[local] = index;
+        }
+        return positions[local].get(value);
+    }
+
+    /**
+     * Finds where a right vertex sits in the row of a left vertex.
+     *
+     * @param left the left local id
+     * @param right the right local id
+     * @return the position of right in leftAdj[left], or -1
+     */
+    private int findRight(int left, int right) {
+        return find(leftAdj, leftPositions, leftDeg, left, right);
+    }
+
+    /**
+     * Finds where a left vertex sits in the row of a right vertex.
+     *
+     * @param right the right local id
+     * @param left the left local id
+     * @return the position of left in rightAdj[right], or -1
+     */
+    private int findLeft(int right, int left) {
+        return find(rightAdj, rightPositions, rightDeg, right, left);
+    }
+
+    /**
+     * Determines whether there is an edge between a left and a right vertex,
+     * searching whichever of the two incidence lists is shorter.
+     *
+     * @param left the left local id
+     * @param right the right local id
+     * @return true if the edge exists
+     */
+    protected boolean hasEdge(int left, int right) {
+        if (leftDeg[left] <= rightDeg[right]) {
+            return findRight(left, right) != -1;
+        }
+        return findLeft(right, left) != -1;
+    }
+
+    /**
+     * Determines whether two vertices are connected. Since the graph is
+     * undirected, this is the same as isEdge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(T v1, T v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1 || sides[i1] == sides[i2]) {
+            return false;
+        }
+        if (sides[i1] == LEFT) {
+            return hasEdge(localIds[i1], localIds[i2]);
+        }
+        return hasEdge(localIds[i2], localIds[i1]);
+    }
+
+    /**
+     * Gets the weight of the edge between two vertices, searching whichever
+     * of the two incidence lists is shorter.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @return the weight of the edge, 1 if it was added without a weight,
+     * or 0 if there is no such edge
+     */
+    public int getWeight(T v1, T v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1 || sides[i1] == sides[i2]) {
+            return 0;
+        }
+        int left = (sides[i1] == LEFT) ? localIds[i1] : localIds[i2];
+        int right = (sides[i1] == LEFT) ? localIds[i2] : localIds[i1];
+        if (leftDeg[left] <= rightDeg[right]) {
+            int k = findRight(left, right);
+            return (k == -1) ? 0 : (leftWeights == null) ? 1 : leftWeights[left][k];
+        }
+        int k = findLeft(right, left);
+        return (k == -1) ? 0 : (rightWeights == null) ? 1 : rightWeights[right][k];
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(T v1, T v2) {
+        return isArc(v1, v2);
+    }
+
+    /**
+     * A bipartite graph is always undirected.
+     *
+     * @returns true
+     */
+    public boolean isUndirected() {
+        return true;
+    }
+
+    /**
+     * Adds a vertex to the side the graph's policy picks for it (the left
+     * side, unless the constructor was given a policy).
+     *
+     * @param v the vertex to be added
+     */
+    public void addVertex(T v) {
+        add(v, sidePolicy.test(v) ? LEFT : RIGHT);
+    }
+
+    /**
+     * Adds a collection of vertices, each to the side the graph's policy
+     * picks for it. Call ensureCapacity first to grow the storage once.
+     *
+     * @param vertices the vertices to be added
+     */
+    public void addVertices(Collection<T> vertices) {
+        for (T v : vertices) {
+            addVertex(v);
+        }
+    }
+
+    /**
+     * Appends a value to a growable row.
+     *
+     * @param rows the rows of one side
+     * @param weightRows the weights parallel to rows, or null if all are 1
+     * @param positions the indices of the rows
+     * @param degrees the number of used slots in each row
+     * @param local which row
+     * @param value the value to append
+     * @param weight the weight of the edge to value
+     */
+    private static void append(int[][] rows, int[][] weightRows, IntIndexMap[] positions, int[] degrees,
+                               int local, int value, int weight) {
+        if (degrees[local] == rows[local].length) {
+            rows[local] = Arrays.copyOf(rows[local], rows[local].length * 2);
+            if (weightRows != null) {
+                weightRows[local] = Arrays.copyOf(weightRows[local], rows[local].length);
+            }
+        }
+        if (weightRows != null) {
+            weightRows[local][degrees[local]] = weight;
+        }
+        if (positions[local] != null) {
+            positions[local].put(value, degrees[local]);
+        }
+        rows[local][degrees[local]++] = value;
+    }
+
+    /**
+     * Removes a value from a row, moving the last value into its slot.
+     *
+     * @param rows the rows of one side
+     * @param weightRows the weights parallel to rows, or null if all are 1
+     * @param positions the indices of the rows
+     * @param degrees the number of used slots in each row
+     * @param local which row
+     * @param value the value to remove
+     * @return true if the value was in the row
+     */
+    private static boolean delete(int[][] rows, int[][] weightRows, IntIndexMap[] positions, int[] degrees,
+                                  int local, int value) {
+        int k = find(rows, positions, degrees, local, value);
+        if (k == -1) {
+            return false;
+        }
+        int last = --degrees[local];
+        rows[local][k] = rows[local][last];
+        if (weightRows != null) {
+            weightRows[local][k] = weightRows[local][last];
+        }
+        if (positions[local] != null) {
+            positions[local].remove(value);
+            if (k != last) {
+                positions[local].put(rows[local][k], k);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces a value in a row with another, in the same slot.
+     *
+     * @param rows the rows of one side
+     * @param positions the indices of the rows
+     * @param degrees the number of used slots in each row
+     * @param local which row
+     * @param value the value to replace
+     * @param replacement the value to put in its slot
+     */
+    private static void rename(int[][] rows, IntIndexMap[] positions, int[] degrees,
+                               int local, int value, int replacement) {
+        int k = find(rows, positions, degrees, local, value);
+        rows[local][k] = replacement;
+        if (positions[local] != null) {
+            positions[local].remove(value);
+            positions[local].put(replacement, k);
+        }
+    }
+
+    /**
+     * Makes the weight rows of both sides, the first time an edge is given
+     * a weight other than 1. Every edge so far gets weight 1.
+     */
+    private void startWeights() {
+        if (leftWeights == null) {
+            leftWeights = new int[leftAdj.length][];
+            for (int left = 0; left < numLeft; left++) {
+                leftWeights[left] = new int[leftAdj[left].length];
+                Arrays.fill(leftWeights[left], 1);
+            }
+            rightWeights = new int[rightAdj.length][];
+            for (int right = 0; right < numRight; right++) {
+                rightWeights[right] = new int[rightAdj[right].length];
+                Arrays.fill(rightWeights[right], 1);
+            }
+        }
+    }
+
+    /**
+     * Adds an edge between a left and a right vertex, given in either order.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void addEdge(T v1, T v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+            return;
+        }
+        if (sides[i1] == sides[i2]) {
+            System.out.println("Tried to add an edge between two vertices on the same side.");
+            return;
+        }
+        addEdgeAt(i1, i2, 1, false);
+    }
+
+    /**
+     * Adds an edge with a weight between a left and a right vertex, given
+     * in either order, or changes the weight of the edge if it is already
+     * there.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @param weight the weight of the edge
+     */
+    public void addEdge(T v1, T v2, int weight) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+            return;
+        }
+        if (sides[i1] == sides[i2]) {
+            System.out.println("Tried to add an edge between two vertices on the same side.");
+            return;
+        }
+        addEdgeAt(i1, i2, weight, true);
+    }
+
+    /**
+     * Adds a batch of edges given by global index, between from[i] and
+     * to[i], in either order. The indices are checked once for the whole
+     * batch, and no vertex has to be looked up in the index table. Pairs on
+     * the same side are skipped.
+     *
+     * @param from the global indices of one end of each edge
+     * @param to the global indices of the other end of each edge
+     */
+    public void addArcs(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length.");
+        }
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] < 0 || from[i] >= numVertices || to[i] < 0 || to[i] >= numVertices) {
+                System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+                return;
+            }
+        }
+
+        int sameSide = 0;
+        for (int i = 0; i < from.length; i++) {
+            if (sides[from[i]] == sides[to[i]]) {
+                sameSide++;
+            } else {
+                addEdgeAt(from[i], to[i], 1, false);
+            }
+        }
+        if (sameSide > 0) {
+            System.out.println("Tried to add " + sameSide + " edge(s) between two vertices on the same side.");
+        }
+    }
+
+    /**
+     * Adds an edge between two vertices on different sides, if it is not
+     * already there.
+     *
+     * @param i1 the global index of the first vertex
+     * @param i2 the global index of the second vertex
+     * @param weight the weight of the edge
+     * @param replace whether to change the weight of an edge already there
+     */
+    private void addEdgeAt(int i1, int i2, int weight, boolean replace) {
+        int left = (sides[i1] == LEFT) ? localIds[i1] : localIds[i2];
+        int right = (sides[i1] == LEFT) ? localIds[i2] : localIds[i1];
+        if (weight != 1) {
+            startWeights();
+        }
+        if (!hasEdge(left, right)) {
+            append(leftAdj, leftWeights, leftPositions, leftDeg, left, right, weight);
+            append(rightAdj, rightWeights, rightPositions, rightDeg, right, left, weight);
+            numEdges++;
+            if (!componentsStale) {
+                components.union(i1, i2);
+            }
+        } else if (replace && leftWeights != null) {
+            leftWeights[left][findRight(left, right)] = weight;
+            rightWeights[right][findLeft(right, left)] = weight;
+        }
+    }
+
+    /**
+     * Adds the edge between two vertices; in a bipartite graph every arc
+     * has its opposite arc.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void addArc(T v1, T v2) {
+        addEdge(v1, v2);
+    }
+
+    /**
+     * Adds the edge with a weight between two vertices, or changes its
+     * weight; in a bipartite graph every arc has its opposite arc, with the
+     * same weight.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @param weight the weight of the edge
+     */
+    public void addArc(T v1, T v2, int weight) {
+        addEdge(v1, v2, weight);
+    }
+
+    /**
+     * Removes the edge between two vertices.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void removeEdge(T v1, T v2) {
+        int i1 = indexOf(v1);
+        int i2 = indexOf(v2);
+        if (i1 == -1 || i2 == -1) {
+            System.out.println("Tried to remove edge from one or more vertex that doesn't exist.");
+            return;
+        }
+        if (sides[i1] == sides[i2]) {
+            return;
+        }
+
+        int left = (sides[i1] == LEFT) ? localIds[i1] : localIds[i2];
+        int right = (sides[i1] == LEFT) ? localIds[i2] : localIds[i1];
+        if (delete(leftAdj, leftWeights, leftPositions, leftDeg, left, right)) {
+            delete(rightAdj, rightWeights, rightPositions, rightDeg, right, left);
+            numEdges--;
+            componentsStale = true;
+        }
+    }
+
+    /**
+     * Removes the edge between two vertices; in a bipartite graph both
+     * arcs go together.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void removeArc(T v1, T v2) {
+        removeEdge(v1, v2);
+    }
+
+    /**
+     * Removes a vertex from the graph. The last vertex of the same side
+     * takes over its local id, and the last vertex overall takes over its
+     * global index, so the ids stay dense.
+     *
+     * @param v the vertex to be removed
+     */
+    public void removeVertex(T v) {
+        int index = indexOf(v);
+        if (index == -1) {
+            System.out.println("Tried to remove vertex that doesn't exist.");
+            return;
+        }
+
+        int local = localIds[index];
+        if (sides[index] == LEFT) {
+            for (int k = 0; k < leftDeg[local]; k++) {
+                delete(rightAdj, rightWeights, rightPositions, rightDeg, leftAdj[local][k], local);
+            }
+            numEdges -= leftDeg[local];
+            int last = --numLeft;
+            if (local != last) {
+                // the last left vertex moves into the freed local id
+                leftAdj[local] = leftAdj[last];
+                leftPositions[local] = leftPositions[last];
+                leftDeg[local] = leftDeg[last];
+                if (leftWeights != null) {
+                    leftWeights[local] = leftWeights[last];
+                }
+                leftGlobal[local] = leftGlobal[last];
+                localIds[leftGlobal[local]] = local;
+                for (int k = 0; k < leftDeg[local]; k++) {
+                    rename(rightAdj, rightPositions, rightDeg, leftAdj[local][k], last, local);
+                }
+            }
+            leftAdj[last] = null;
+            leftPositions[last] = null;
+            if (leftWeights != null) {
+                leftWeights[last] = null;
+            }
+        } else {
+            for (int k = 0; k < rightDeg[local]; k++) {
+                delete(leftAdj, leftWeights, leftPositions, leftDeg, rightAdj[local][k], local);
+            }
+            numEdges -= rightDeg[local];
+            int last = --numRight;
+            if (local != last) {
+                // the last right vertex moves into the freed local id
+                rightAdj[local] = rightAdj[last];
+                rightPositions[local] = rightPositions[last];
+                rightDeg[local] = rightDeg[last];
+                if (rightWeights != null) {
+                    rightWeights[local] = rightWeights[last];
+                }
+                rightGlobal[local] = rightGlobal[last];
+                localIds[rightGlobal[local]] = local;
+                for (int k = 0; k < rightDeg[local]; k++) {
+                    rename(leftAdj, leftPositions, leftDeg, rightAdj[local][k], last, local);
+                }
+            }
+            rightAdj[last] = null;
+            rightPositions[last] = null;
+            if (rightWeights != null) {
+                rightWeights[last] = null;
+            }
+        }
+
+        ids.remove(v);
+        componentsStale = true;
+        int lastIndex = --numVertices;
+        if (index != lastIndex) {
+            // the last vertex overall moves into the freed global index
+            labels[index] = labels[lastIndex];
+            sides[index] = sides[lastIndex];
+            localIds[index] = localIds[lastIndex];
+            if (sides[index] == LEFT) {
+                leftGlobal[localIds[index]] = index;
+            } else {
+                rightGlobal[localIds[index]] = index;
+            }
+            ids.put(labels[index], index);
+        }
+        labels[lastIndex] = null;
+    }
+
+    /**
+     * Gets the union-find structure over the vertex indices, rebuilding it
+     * first if an edge or vertex was removed since it was last complete. A
+     * union-find cannot split sets, so removals are handled by this one
+     * O(V + E) rebuild at the next connectivity query rather than on every
+     * removal; while only vertices and edges are being added it stays
+     * current at O(alpha(n)) per change.
+     *
+     * @return the up-to-date union-find structure
+     */
+    protected UnionFind components() {
+        if (componentsStale) {
+            components = new UnionFind(numVertices);
+            for (int left = 0; left < numLeft; left++) {
+                for (int k = 0; k < leftDeg[left]; k++) {
+                    components.union(leftGlobal[left], rightGlobal[leftAdj[left][k]]);
+                }
+            }
+            componentsStale = false;
+        }
+        return components;
+    }
+
+    /**
+     * Determines whether the graph is connected.
+     *
+     * @return true if every vertex can reach every other
+     */
+    public boolean isConnected() {
+        return components().getNumSets() <= 1;
+    }
+
+    /**
+     * Gets the component a vertex is in. Two vertices are in the same
+     * component exactly when this returns the same id for both; the ids
+     * themselves can change as the graph changes.
+     *
+     * @param v the vertex
+     * @return the id of v's component, or -1 if v is not in the graph
+     */
+    public int componentOf(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? -1 : components().find(index);
+    }
+
+    /**
+     * Checks the number of connected components.
+     *
+     * @return the number of components
+     */
+    public int getNumComponents() {
+        return components().getNumSets();
+    }
+
+    /**
+     * Returns a linked list of the neighbours of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<T> getSuccessors(T v) {
+        LinkedList<T> successors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = 0; k < outDegreeAt(index); k++) {
+                successors.add(labels[successorAt(index, k)]);
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the neighbours of vertex v, which are also
+     * its predecessors since the graph is undirected.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<T> getPredecessors(T v) {
+        return getSuccessors(v);
+    }
+
+    /**
+     * Checks how many arcs end at vertex v, which is its degree.
+     *
+     * @return the degree of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : outDegreeAt(index);
+    }
+
+    /**
+     * Checks how many arcs start at vertex v, which is its degree.
+     *
+     * @return the degree of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(T v) {
+        return getInDegree(v);
+    }
+
+    /**
+     * Finds the hop distance from one vertex to every vertex, one side at a
+     * time: each level of the breadth-first search lies entirely on one side,
+     * so it is expanded straight through that side's incidence lists.
+     *
+     * @param index the global index of the vertex to measure from
+     * @param leftDist filled in with the distance of every left vertex, keyed
+     * by left local id, or -1 where there is no path. Needs getNumLeft() slots.
+     * @param rightDist the same for the right vertices. Needs getNumRight() slots.
+     * @return the eccentricity of the vertex, or -1 if index is -1
+     */
+    public int hopDistances(int index, int[] leftDist, int[] rightDist) {
+        Arrays.fill(leftDist, 0, numLeft, -1);
+        Arrays.fill(rightDist, 0, numRight, -1);
+        if (index < 0) {
+            return -1;
+        }
+        if (leftQueue.length < numLeft || rightQueue.length < numRight) {
+            leftQueue = new int[numLeft];
+            rightQueue = new int[numRight];
+        }
+
+        // the current level is leftQueue[0 .. leftCount) or rightQueue[0 .. rightCount)
+        int leftCount = 0;
+        int rightCount = 0;
+        boolean onLeft = (sides[index] == LEFT);
+        if (onLeft) {
+            leftQueue[leftCount++] = localIds[index];
+            leftDist[localIds[index]] = 0;
+        } else {
+            rightQueue[rightCount++] = localIds[index];
+            rightDist[localIds[index]] = 0;
+        }
+
+        int level = 0;
+        while (true) {
+            int found = 0;
+            if (onLeft) {
+                for (int q = 0; q < leftCount; q++) {
+                    int[] row = leftAdj[leftQueue[q]];
+                    for (int k = 0; k < leftDeg[leftQueue[q]]; k++) {
+                        if (rightDist[row[k]] == -1) {
+                            rightDist[row[k]] = level + 1;
+                            rightQueue[found++] = row[k];
+                        }
+                    }
+                }
+                rightCount = found;
+            } else {
+                for (int q = 0; q < rightCount; q++) {
+                    int[] row = rightAdj[rightQueue[q]];
+                    for (int k = 0; k < rightDeg[rightQueue[q]]; k++) {
+                        if (leftDist[row[k]] == -1) {
+                            leftDist[row[k]] = level + 1;
+                            leftQueue[found++] = row[k];
+                        }
+                    }
+                }
+                leftCount = found;
+            }
+            if (found == 0) {
+                return level;
+            }
+            level++;
+            onLeft = !onLeft;
+        }
+    }
+
+    /**
+     * Finds the eccentricity of a vertex: the largest number of hops from it
+     * to any vertex it can reach.
+     *
+     * @param v the vertex to measure from
+     * @return the eccentricity of v, or -1 if v is not in the graph
+     */
+    public int eccentricity(T v) {
+        return hopDistances(indexOf(v), new int[numLeft], new int[numRight]);
+    }
+
+    /**
+     * Makes an immutable compressed sparse row copy of this graph, with the
+     * same global indices. Every edge becomes two arcs, each with the
+     * edge's weight.
+     *
+     * @return a CSRGraph with the same vertices, arcs and weights
+     */
+    public CSRGraph<T> freeze() {
+        T[] copy = Arrays.copyOf(labels, numVertices);
+        int[] offsets = new int[numVertices + 1];
+        int[] targets = new int[2 * numEdges];
+        int[] weights = (leftWeights == null) ? null : new int[targets.length];
+
+        int position = 0;
+        for (int i = 0; i < numVertices; i++) {
+            offsets[i] = position;
+            for (int k = 0; k < outDegreeAt(i); k++) {
+                if (weights != null) {
+                    weights[position] = weightAt(i, k);
+                }
+                targets[position++] = successorAt(i, k);
+            }
+            CSRGraph.sortRow(targets, weights, offsets[i], position); //rows are kept sorted for binary search
+        }
+        offsets[numVertices] = position;
+
+        return new CSRGraph<T>(copy, offsets, targets, weights);
+    }
+
+    /**
+     * Performs a breadth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> BFtraversal(T v) {
+        return new GraphTraversal<T>(this).BFtraversal(v);
+    }
+
+    /**
+     * Performs a depth-first traversal of the graph, beginning at the
+     * user-specificed vertex. Neighbours are tried in the order their edges
+     * were added.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> DFtraversal(T v) {
+        return new GraphTraversal<T>(this).DFtraversal(v);
+    }
+
+    /**
+     * Creates a binary graph file (see BinaryGraphFormat) with the vertices
+     * and arcs of this graph. It is much smaller than the TGF file and
+     * much faster to read back.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToBinary(String fileName) {
+        try {
+            BinaryGraphFormat.write(this, fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Creates a TGF file with the vertices and edges of this graph. Each
+     * edge is written as an arc in each direction, as AdjListsGraph writes
+     * it, so loading the file back gives the same undirected graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        saveToTGF(fileName, String::valueOf);
+    }
+
+    /**
+     * Creates a TGF file with the vertices and edges of this graph, writing
+     * each vertex as the name given for it, such as the label a SymbolTable
+     * id stands for. Each edge is written as an arc in each direction, each
+     * followed by the edge's weight if that is not 1.
+     *
+     * @param fileName the name you want the file to be saved with
+     * @param names gives the name to write for each vertex
+     */
+    public void saveToTGF(String fileName, Function<? super T,String> names) {
+        try {
+            PrintWriter w = new PrintWriter(new BufferedWriter(new FileWriter(fileName)));
+            for (int i = 0; i < numVertices; i++) {
+                w.println((i + 1) + " " + names.apply(labels[i]));
+            }
+            w.print("#");
+            for (int i = 0; i < numVertices; i++) {
+                boolean left = (sides[i] == LEFT);
+                int local = localIds[i];
+                int[] row = left ? leftAdj[local] : rightAdj[local];
+                int[] rowWeights = left ? ((leftWeights == null) ? null : leftWeights[local])
+                                        : ((rightWeights == null) ? null : rightWeights[local]);
+                int[] otherGlobal = left ? rightGlobal : leftGlobal;
+                for (int k = 0; k < (left ? leftDeg[local] : rightDeg[local]); k++) {
+                    w.print("\n" + (i + 1) + " " + (otherGlobal[row[k]] + 1));
+                    if (rowWeights != null && rowWeights[k] != 1) {
+                        w.print(" " + rowWeights[k]);
+                    }
+                }
+            }
+            w.println();
+            w.close(); //for tidiness!
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Creates a GraphML file (which yEd can open) with the vertices and
+     * edges of this graph, each edge written once.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToGraphML(String fileName) {
+        try {
+            new GraphExporter<T>(this).saveToGraphML(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the graph
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Vertices:\n[");
+        for (int i = 0; i < numVertices; i++) {
+            result.append((i == 0 ? "" : ", ") + labels[i]);
+        }
+        result.append("]\nEdges:\n");
+        for (int i = 0; i < numVertices; i++) {
+            result.append("from " + labels[i] + ":\t" + getSuccessors(labels[i]) + "\n");
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) {
+        BipartiteGraph<String> g = new BipartiteGraph<String>();
+        AdjListsGraph<String> baseline = new AdjListsGraph<String>();
+        for (int k = 0; k < 100; k++) {
+            g.addLeft("RAT" + k);
+            baseline.addVertex("RAT" + k);
+        }
+        for (int k = 0; k < 40; k++) {
+            g.addRight("story" + k);
+            baseline.addVertex("story" + k);
+        }
+
+        Random random = new Random(230);
+        for (int i = 0; i < 2000; i++) {
+            String rat = "RAT" + ((i % 4 == 0) ? 0 : random.nextInt(100)); //RAT0 tweets about everything
+            String story = "story" + ((i % 3 == 0) ? 0 : random.nextInt(40)); //story0 is tweeted about by everyone
+            if (i % 5 == 0) {
+                int weight = 1 + random.nextInt(9);
+                g.addEdge(rat, story, weight);
+                baseline.addArc(rat, story, weight);
+                baseline.addArc(story, rat, weight);
+            } else {
+                g.addEdge(story, rat); //either order works
+                baseline.addEdge(rat, story);
+            }
+        }
+        System.out.println("Testing addEdge() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+
+        for (int k = 0; k < 100; k += 3) {
+            g.removeEdge("RAT" + k, "story0");
+            baseline.removeEdge("RAT" + k, "story0");
+        }
+        for (int k = 0; k < 40; k += 7) {
+            g.removeVertex("story" + k);
+            baseline.removeVertex("story" + k);
+        }
+        for (int k = 1; k < 100; k += 11) {
+            g.removeVertex("RAT" + k);
+            baseline.removeVertex("RAT" + k);
+        }
+        System.out.println("Testing removeEdge() and removeVertex() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+        System.out.println("Testing getNumComponents() against AdjListsGraph:\t" + (g.getNumComponents() == baseline.getNumComponents()));
+
+        g.addEdge("RAT0", "story1", 42);
+        baseline.addArc("RAT0", "story1", 42);
+        baseline.addArc("story1", "RAT0", 42);
+        System.out.println("Testing addEdge() with a new weight:\t" + GraphChecks.sameArcs(g, baseline));
+        System.out.println("Testing freeze() against AdjListsGraph:\t" + GraphChecks.sameArcs(g.freeze(), baseline));
+
+        try {
+            File saved = File.createTempFile("BipartiteGraph", ".tgf");
+            saved.deleteOnExit();
+            g.saveToTGF(saved.getPath());
+            System.out.println("Testing saveToTGF() and TGFLoader.load() against AdjListsGraph:\t"
+                + GraphChecks.sameArcs(TGFLoader.load(saved.getPath()), baseline));
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/**
+ * Projects a BipartiteGraph onto one of its sides: the result has the
+ * vertices of that side, and an arc between two of them weighted by how
+ * many neighbours they share on the other side. Projecting the graph of
+ * RATs and stories onto the RATs gives which RATs co-tweeted and about how
+ * many stories; projecting it onto the stories gives which stories shared
+ * RATs, and how many.
+ *
+ * This is the sparse matrix product A * A^T (or A^T * A) of the incidence
+ * matrix, worked out a row at a time as Gustavson's algorithm does: for a
+ * vertex u, every neighbour of every neighbour of u adds one to its count
+ * in a dense accumulator, and the counts that reach the minimum weight
+ * become u's row. Rows are independent, so they are spread over a
+ * ForkJoinPool, and every worker thread keeps its own accumulator (one
+ * count per vertex of the side, plus the list of counts it touched, so
+ * clearing it costs only what was touched).
+ *
+ * The result is a weighted CSRGraph with sorted rows, fit for the
+ * traversal and component engines. Vertices keep their order within their
+ * side (the order they were added), and no vertex has an arc to itself.
+ *
+ * The graph must not change while a projection is being made.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class BipartiteProjection<T> {
+    private static final int ROWS_PER_TASK = 32; //below this, a task stops splitting
+
+    // instance variables
+    protected BipartiteGraph<T> graph;
+    protected ForkJoinPool pool;
+
+    /**
+     * The counts one worker thread adds shared neighbours up in.
+     */
+    private static class Accumulator {
+        int[] counts; //key = local id on the projected side, value = shared neighbours so far
+        int[] touched; //local ids whose count is not 0
+        int numTouched;
+
+        Accumulator(int size) {
+            counts = new int[size];
+            touched = new int[size];
+        }
+    }
+
+    /**
+     * The arrays of one side of the graph, and of the side across from it.
+     */
+    private static class Sides {
+        int[][] adj; //key = local id on the projected side, value = local ids of its neighbours
+        int[] deg;
+        int[][] otherAdj; //key = local id on the other side, value = local ids of its neighbours
+        int[] otherDeg;
+        int size; //number of vertices on the projected side
+    }
+
+    /**
+     * Works out the rows of one range of vertices, splitting it in half
+     * until it is small enough to do directly.
+     */
+    @SuppressWarnings("serial")
+    private class RowTask extends RecursiveAction {
+        private final Sides sides;
+        private final int minWeight;
+        private final ThreadLocal<Accumulator> accumulators;
+        private final int[][] rowTargets;
+        private final int[][] rowWeights;
+        private final int from;
+        private final int to;
+
+        RowTask(Sides sides, int minWeight, ThreadLocal<Accumulator> accumulators,
+                int[][] rowTargets, int[][] rowWeights, int from, int to) {
+            this.sides = sides;
+            this.minWeight = minWeight;
+            this.accumulators = accumulators;
+            this.rowTargets = rowTargets;
+            this.rowWeights = rowWeights;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(sides, minWeight, accumulators, rowTargets, rowWeights, from, middle),
+                          new RowTask(sides, minWeight, accumulators, rowTargets, rowWeights, middle, to));
+                return;
+            }
+            Accumulator acc = accumulators.get();
+            for (int u = from; u < to; u++) {
+                projectRow(sides, u, minWeight, acc, rowTargets, rowWeights);
+            }
+        }
+    }
+
+    /**
+     * Constructor for objects of class BipartiteProjection, using the
+     * common ForkJoinPool.
+     *
+     * @param graph the graph to project
+     */
+    public BipartiteProjection(BipartiteGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for objects of class BipartiteProjection
+     *
+     * @param graph the graph to project
+     * @param pool the pool that works out the rows
+     */
+    public BipartiteProjection(BipartiteGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Projects the graph onto its left side (the RATs, for a RATgraph).
+     *
+     * @return a graph with an arc between every two left vertices that share
+     * a right neighbour, weighted by how many they share
+     */
+    public CSRGraph<T> projectLeft() {
+        return projectLeft(1);
+    }
+
+    /**
+     * Projects the graph onto its left side, keeping only the pairs that
+     * share at least a number of right neighbours.
+     *
+     * @param minWeight the fewest shared neighbours an arc needs to be kept
+     * @return the weighted left projection
+     */
+    public CSRGraph<T> projectLeft(int minWeight) {
+        return project(BipartiteGraph.LEFT, minWeight);
+    }
+
+    /**
+     * Projects the graph onto its right side (the stories, for a RATgraph).
+     *
+     * @return a graph with an arc between every two right vertices that
+     * share a left neighbour, weighted by how many they share
+     */
+    public CSRGraph<T> projectRight() {
+        return projectRight(1);
+    }
+
+    /**
+     * Projects the graph onto its right side, keeping only the pairs that
+     * share at least a number of left neighbours.
+     *
+     * @param minWeight the fewest shared neighbours an arc needs to be kept
+     * @return the weighted right projection
+     */
+    public CSRGraph<T> projectRight(int minWeight) {
+        return project(BipartiteGraph.RIGHT, minWeight);
+    }
+
+    /**
+     * Projects the graph onto one side.
+     *
+     * @param side LEFT or RIGHT
+     * @param minWeight the fewest shared neighbours an arc needs to be kept
+     * @return the weighted projection
+     */
+    protected CSRGraph<T> project(byte side, int minWeight) {
+        Sides sides = new Sides();
+        int[] global;
+        if (side == BipartiteGraph.LEFT) {
+            sides.adj = graph.leftAdj;
+            sides.deg = graph.leftDeg;
+            sides.otherAdj = graph.rightAdj;
+            sides.otherDeg = graph.rightDeg;
+            sides.size = graph.numLeft;
+            global = graph.leftGlobal;
+        } else {
+            sides.adj = graph.rightAdj;
+            sides.deg = graph.rightDeg;
+            sides.otherAdj = graph.leftAdj;
+            sides.otherDeg = graph.leftDeg;
+            sides.size = graph.numRight;
+            global = graph.rightGlobal;
+        }
+        int n = sides.size;
+        int threshold = Math.max(1, minWeight);
+
+        int[][] rowTargets = new int[n][];
+        int[][] rowWeights = new int[n][];
+        ThreadLocal<Accumulator> accumulators = ThreadLocal.withInitial(() -> new Accumulator(n));
+        if (n > 0) {
+            pool.invoke(new RowTask(sides, threshold, accumulators, rowTargets, rowWeights, 0, n));
+        }
+
+        // puts the rows together into CSR arrays
+        @SuppressWarnings("unchecked")
+        T[] labels = (T[]) new Object[n];
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            labels[u] = graph.vertexAt(global[u]);
+            offsets[u + 1] = offsets[u] + rowTargets[u].length;
+        }
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            System.arraycopy(rowTargets[u], 0, targets, offsets[u], rowTargets[u].length);
+            System.arraycopy(rowWeights[u], 0, weights, offsets[u], rowWeights[u].length);
+        }
+        return new CSRGraph<T>(labels, offsets, targets, weights);
+    }
+
+    /**
+     * Works out one row of a projection: counts the shared neighbours of u
+     * with every vertex two steps away, and keeps the counts that reach the
+     * minimum weight, sorted by local id.
+     *
+     * @param sides the arrays of the graph
+     * @param u the local id of the vertex
+     * @param minWeight the fewest shared neighbours an arc needs to be kept
+     * @param acc this thread's accumulator, all zero on entry and on exit
+     * @param rowTargets where to store the row's targets
+     * @param rowWeights where to store the row's weights
+     */
+    private static void projectRow(Sides sides, int u, int minWeight, Accumulator acc,
+                                   int[][] rowTargets, int[][] rowWeights) {
+        int[] counts = acc.counts;
+        int[] touched = acc.touched;
+        int numTouched = 0;
+        int[] row = sides.adj[u];
+        for (int k = 0; k < sides.deg[u]; k++) {
+            int middle = row[k];
+            int[] across = sides.otherAdj[middle];
+            for (int j = 0; j < sides.otherDeg[middle]; j++) {
+                int w = across[j];
+                if (w != u) {
+                    if (counts[w] == 0) {
+                        touched[numTouched++] = w;
+                    }
+                    counts[w]++;
+                }
+            }
+        }
+
+        Arrays.sort(touched, 0, numTouched);
+        int kept = 0;
+        for (int t = 0; t < numTouched; t++) {
+            if (counts[touched[t]] >= minWeight) {
+                kept++;
+            }
+        }
+        int[] targets = new int[kept];
+        int[] weights = new int[kept];
+        kept = 0;
+        for (int t = 0; t < numTouched; t++) {
+            int w = touched[t];
+            if (counts[w] >= minWeight) {
+                targets[kept] = w;
+                weights[kept++] = counts[w];
+            }
+            counts[w] = 0; //leaves the accumulator clean for the next row
+        }
+        rowTargets[u] = targets;
+        rowWeights[u] = weights;
+    }
+
+    /**
+     * Builds the projection of a graph onto some of its vertices pair by
+     * pair, with no arc from a vertex to itself.
+     */
+    private static AdjListsGraph<String> projectPlainly(Graph<String> g, List<String> side, int minWeight) {
+        AdjListsGraph<String> expected = new AdjListsGraph<String>();
+        for (String v : side) {
+            expected.addVertex(v);
+        }
+        for (String v : side) {
+            for (String w : side) {
+                Set<String> shared = new HashSet<String>(g.getSuccessors(v));
+                shared.retainAll(g.getSuccessors(w));
+                if (!v.equals(w) && shared.size() >= minWeight) {
+                    expected.addArc(v, w, shared.size());
+                }
+            }
+        }
+        return expected;
+    }
+
+    public static void main(String[] args) {
+        BipartiteGraph<String> g = new BipartiteGraph<String>();
+        AdjListsGraph<String> baseline = new AdjListsGraph<String>();
+        List<String> rats = new ArrayList<String>();
+        List<String> stories = new ArrayList<String>();
+        for (int v = 0; v < 200; v++) {
+            rats.add("rat" + v);
+            g.addLeft("rat" + v);
+            baseline.addVertex("rat" + v);
+        }
+        for (int v = 0; v < 60; v++) {
+            stories.add("story" + v);
+            g.addRight("story" + v);
+            baseline.addVertex("story" + v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 1500; i++) {
+            String rat = rats.get(random.nextInt(rats.size()));
+            String story = stories.get(random.nextInt(10) == 0 ? 0 : random.nextInt(stories.size())); //story0 is popular
+            g.addEdge(rat, story);
+            baseline.addEdge(rat, story);
+        }
+
+        BipartiteProjection<String> projection = new BipartiteProjection<String>(g);
+        System.out.println("Testing projectLeft() against AdjListsGraph:\t"
+            + GraphChecks.sameArcs(projection.projectLeft(), projectPlainly(baseline, rats, 1)));
+        System.out.println("Testing projectLeft(3) against AdjListsGraph:\t"
+            + GraphChecks.sameArcs(projection.projectLeft(3), projectPlainly(baseline, rats, 3)));
+        System.out.println("Testing projectRight() against AdjListsGraph:\t"
+            + GraphChecks.sameArcs(projection.projectRight(), projectPlainly(baseline, stories, 1)));
+    }
+}
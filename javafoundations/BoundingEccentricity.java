@@ -0,0 +1,227 @@
+/**
+ * Finds the exact diameter, radius and center vertices among a set of
+ * source vertices without a breadth-first search from every source, using
+ * the eccentricity bounds of Takes and Kosters ("Determining the diameter
+ * of small world networks", 2011).
+ *
+ * After a search from any vertex w, every vertex v it reached with
+ * distance d = d(v, w) satisfies
+ *     max(ecc(w) - d, d) <= ecc(v) <= ecc(w) + d.
+ * The algorithm keeps a lower and an upper bound for every source, picks
+ * the next search where the bounds are loosest (alternating between the
+ * largest upper bound and the smallest lower bound), and stops once every
+ * source either has an exact eccentricity or can be neither the diameter
+ * nor a center. On real-world graphs that usually takes a handful of
+ * searches instead of one per source.
+ *
+ * The bounds need distances to be symmetric, so the graph must be
+ * undirected (as the RAT graph is). Sources in different connected
+ * components are handled separately, since no search crosses them.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+public class BoundingEccentricity<T> {
+    // instance variables
+    protected IndexedGraph<T> graph;
+    protected GraphTraversal<T> traversal;
+
+    protected int diameter;
+    protected int radius;
+    protected LinkedList<T> centerNodes;
+    protected int numSearches; //how many breadth-first searches the last measure() ran
+
+    /**
+     * Constructor for objects of class BoundingEccentricity
+     *
+     * @param graph the undirected graph to measure
+     */
+    public BoundingEccentricity(IndexedGraph<T> graph) {
+        this.graph = graph;
+        traversal = new GraphTraversal<T>(graph);
+        centerNodes = new LinkedList<T>();
+    }
+
+    /**
+     * Finds the diameter, radius and center vertices among the sources.
+     *
+     * @param sources the vertices to measure from
+     */
+    public void measure(Collection<T> sources) {
+        int[] indices = new int[sources.size()];
+        int count = 0;
+        for (T source : sources) {
+            int index = graph.indexOf(source);
+            if (index != -1) {
+                indices[count++] = index;
+            }
+        }
+        measure(Arrays.copyOf(indices, count));
+    }
+
+    /**
+     * Finds the diameter, radius and center vertices among the sources.
+     * The eccentricity of a source is the largest number of hops from it
+     * to any vertex it can reach.
+     *
+     * @param sources the indices of the vertices to measure from
+     */
+    public void measure(int[] sources) {
+        int n = graph.getNumVertices();
+        int[] position = new int[n]; //key = vertex index, value = its slot in candidates, or -1
+        Arrays.fill(position, -1);
+        int[] candidates = new int[sources.length];
+        int count = 0;
+        for (int source : sources) {
+            if (position[source] == -1) { //ignores repeated sources
+                position[source] = count;
+                candidates[count++] = source;
+            }
+        }
+
+        int[] lower = new int[count];
+        int[] upper = new int[count];
+        boolean[] exact = new boolean[count];
+        Arrays.fill(upper, Integer.MAX_VALUE);
+
+        int[] dist = new int[n];
+        int lowerDiameter = 0; //the largest lower bound, never more than the diameter
+        int upperRadius = Integer.MAX_VALUE; //the smallest upper bound, never less than the radius
+        boolean pickHighest = true;
+        numSearches = 0;
+
+        while (true) {
+            // picks the unresolved source with the loosest bound on the side
+            // whose turn it is, preferring high-degree vertices on ties
+            int next = -1;
+            for (int i = 0; i < count; i++) {
+                if (exact[i] || (upper[i] <= lowerDiameter && lower[i] > upperRadius)) {
+                    continue; //known exactly, or can be neither the diameter nor a center
+                }
+                if (next == -1) {
+                    next = i;
+                } else if (pickHighest) {
+                    if (upper[i] > upper[next] || (upper[i] == upper[next]
+                            && graph.outDegreeAt(candidates[i]) > graph.outDegreeAt(candidates[next]))) {
+                        next = i;
+                    }
+                } else {
+                    if (lower[i] < lower[next] || (lower[i] == lower[next]
+                            && graph.outDegreeAt(candidates[i]) > graph.outDegreeAt(candidates[next]))) {
+                        next = i;
+                    }
+                }
+            }
+            if (next == -1) {
+                break;
+            }
+            pickHighest = !pickHighest;
+
+            int ecc = traversal.distances(candidates[next], dist);
+            numSearches++;
+            lower[next] = ecc;
+            upper[next] = ecc;
+            exact[next] = true;
+
+            // tightens the bounds of every source this search reached
+            for (int i = 0; i < count; i++) {
+                int d = dist[candidates[i]];
+                if (d == -1 || exact[i]) {
+                    continue; //different component, or already known
+                }
+                lower[i] = Math.max(lower[i], Math.max(ecc - d, d));
+                upper[i] = Math.min(upper[i], ecc + d);
+                if (lower[i] == upper[i]) {
+                    exact[i] = true;
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                lowerDiameter = Math.max(lowerDiameter, lower[i]);
+                upperRadius = Math.min(upperRadius, upper[i]);
+            }
+        }
+
+        diameter = lowerDiameter;
+        radius = (count == 0) ? 0 : upperRadius;
+        centerNodes = new LinkedList<T>();
+        for (int i = 0; i < count; i++) {
+            if (exact[i] && lower[i] == radius) {
+                centerNodes.add(graph.vertexAt(candidates[i]));
+            }
+        }
+    }
+
+    /**
+     * Gets the diameter found by the last measure().
+     *
+     * @return the largest eccentricity of any source
+     */
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Gets the radius found by the last measure().
+     *
+     * @return the smallest eccentricity of any source
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the center vertices found by the last measure().
+     *
+     * @return the sources whose eccentricity equals the radius
+     */
+    public LinkedList<T> getCenterNodes() {
+        return centerNodes;
+    }
+
+    /**
+     * Checks how many breadth-first searches the last measure() needed.
+     *
+     * @return the number of searches
+     */
+    public int getNumSearches() {
+        return numSearches;
+    }
+
+    public static void main(String[] args) {
+        // an undirected graph in a few components: a long path, a star and a random part
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 600; v++) {
+            baseline.addVertex(v);
+        }
+        for (int v = 1; v < 50; v++) {
+            baseline.addEdge(v - 1, v);
+        }
+        for (int v = 51; v < 100; v++) {
+            baseline.addEdge(50, v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 900; i++) {
+            baseline.addEdge(100 + random.nextInt(500), 100 + random.nextInt(500));
+        }
+        CSRGraph<Integer> g = baseline.freeze();
+
+        List<Integer> sources = new ArrayList<Integer>();
+        for (int v = 0; v < 600; v++) {
+            if (baseline.getOutDegree(v) > 0) {
+                sources.add(v); //vertices left on their own would make the radius 0
+            }
+        }
+
+        BoundingEccentricity<Integer> bounds = new BoundingEccentricity<Integer>(g);
+        bounds.measure(sources);
+        System.out.println("Testing measure() against a plain BFS over AdjListsGraph:\t"
+            + GraphChecks.sameEccentricities(baseline, sources, null,
+                bounds.getDiameter(), bounds.getRadius(), bounds.getCenterNodes()));
+        System.out.println("Searches needed for " + sources.size() + " sources:\t" + bounds.getNumSearches());
+    }
+}
@@ -0,0 +1,519 @@
+/**
+ * An immutable, read-only snapshot of a graph stored in compressed sparse
+ * row (CSR) form. The successors of the vertex with index i are
+ * targets[offsets[i]] ... targets[offsets[i + 1] - 1], sorted by index, so
+ * traversals walk plain int arrays instead of linked lists of objects. The
+ * transpose (inOffsets and sources) is kept as well, so predecessors cost
+ * no more than successors.
+ *
+ * A snapshot can also carry an int weight for every arc, in an array
+ * parallel to targets, as the one-mode graphs made by BipartiteProjection
+ * and the snapshots of weighted graphs do. Arcs of an unweighted snapshot
+ * all have weight 1.
+ *
+ * Snapshots are made with AdjListsGraph.freeze(). Any method that would
+ * change the graph throws an UnsupportedOperationException.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+
+public class CSRGraph<T> implements IndexedGraph<T> {
+    // instance variables
+    protected final T[] labels; //key = vertex index, value = vertex
+    protected final Hashtable<T,Integer> ids; //key = vertex, value = vertex index
+    protected final int[] offsets; //where each vertex's successors start in targets
+    protected final int[] targets; //successor indices, grouped by origin vertex
+    protected final int[] inOffsets; //where each vertex's predecessors start in sources
+    protected final int[] sources; //predecessor indices, grouped by destination vertex
+    protected final int[] weights; //key = position in targets, value = weight of that arc; null if unweighted
+
+    /**
+     * Constructor for objects of class CSRGraph. Each row of targets must
+     * already be sorted.
+     *
+     * @param labels the vertices, in index order
+     * @param offsets the start of each vertex's row in targets (length labels.length + 1)
+     * @param targets the successor indices of every vertex, row by row
+     */
+    protected CSRGraph(T[] labels, int[] offsets, int[] targets) {
+        this(labels, offsets, targets, null);
+    }
+
+    /**
+     * Constructor for objects of class CSRGraph with weighted arcs. Each
+     * row of targets must already be sorted.
+     *
+     * @param labels the vertices, in index order
+     * @param offsets the start of each vertex's row in targets (length labels.length + 1)
+     * @param targets the successor indices of every vertex, row by row
+     * @param weights the weight of each arc in targets, or null if unweighted
+     */
+    protected CSRGraph(T[] labels, int[] offsets, int[] targets, int[] weights) {
+        this.labels = labels;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        ids = new Hashtable<T,Integer>(Math.max(16, labels.length * 2));
+        for (int i = 0; i < labels.length; i++) {
+            ids.put(labels[i], i);
+        }
+
+        // builds the transpose by counting each vertex's in-degree, then filling
+        // the rows in origin order so they come out sorted
+        inOffsets = new int[labels.length + 1];
+        sources = new int[targets.length];
+        for (int k = 0; k < targets.length; k++) {
+            inOffsets[targets[k] + 1]++;
+        }
+        for (int i = 0; i < labels.length; i++) {
+            inOffsets[i + 1] += inOffsets[i];
+        }
+        int[] fill = Arrays.copyOf(inOffsets, labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                sources[fill[targets[k]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Looks up the index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in the graph
+     */
+    public int indexOf(T v) {
+        Integer index = ids.get(v);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Gets the vertex stored at an index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public T vertexAt(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Checks how many successors the vertex at an index has.
+     *
+     * @param index the index of the vertex
+     * @return the number of arcs leaving that vertex
+     */
+    public int outDegreeAt(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Gets one successor of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which successor to get, from 0 to outDegreeAt(index) - 1
+     * @return the index of the k-th successor
+     */
+    public int successorAt(int index, int k) {
+        return targets[offsets[index] + k];
+    }
+
+    /**
+     * Gets the weight of one arc of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which arc, from 0 to outDegreeAt(index) - 1
+     * @return the weight of the arc to successorAt(index, k)
+     */
+    public int weightAt(int index, int k) {
+        return (weights == null) ? 1 : weights[offsets[index] + k];
+    }
+
+    /**
+     * Determines whether the arcs of this graph carry weights.
+     *
+     * @return true if the arcs were given weights
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Sorts one row of targets, moving each arc's weight along with it.
+     *
+     * @param targets the successor indices
+     * @param weights the weights parallel to targets, or null if unweighted
+     * @param from where the row starts
+     * @param to where the row ends
+     */
+    static void sortRow(int[] targets, int[] weights, int from, int to) {
+        if (weights == null) {
+            Arrays.sort(targets, from, to);
+            return;
+        }
+        // packs each arc into a long, target above weight, so one sort keeps them together;
+        // the weight's sign bit is flipped so that arcs to the same target order by signed weight
+        long[] arcs = new long[to - from];
+        for (int k = from; k < to; k++) {
+            arcs[k - from] = ((long) targets[k] << 32) | ((weights[k] ^ 0x80000000) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(arcs);
+        for (int k = from; k < to; k++) {
+            targets[k] = (int) (arcs[k - from] >>> 32);
+            weights[k] = (int) arcs[k - from] ^ 0x80000000;
+        }
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return labels.length == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return labels.length;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        return targets.length;
+    }
+
+    /**
+     * Determines whether there is an arc between two vertex indices, using
+     * a binary search over the origin's sorted row.
+     *
+     * @param origin the index of the origin vertex
+     * @param destination the index of the destination vertex
+     * @return true if the arc exists
+     */
+    protected boolean hasArc(int origin, int destination) {
+        return Arrays.binarySearch(targets, offsets[origin], offsets[origin + 1], destination) >= 0;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(T v1, T v2) {
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        if (origin == -1 || destination == -1) {
+            return false;
+        }
+        return hasArc(origin, destination);
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices, using a binary
+     * search over the origin's sorted row.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return the weight of the arc, or 0 if there is no such arc
+     */
+    public int getWeight(T v1, T v2) {
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        if (origin == -1 || destination == -1) {
+            return 0;
+        }
+        int k = Arrays.binarySearch(targets, offsets[origin], offsets[origin + 1], destination);
+        if (k < 0) {
+            return 0;
+        }
+        return (weights == null) ? 1 : weights[k];
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(T v1, T v2) {
+        return (isArc(v1, v2) && isArc(v2, v1));
+    }
+
+    /**
+     * Determines whether the graph is undirected.
+     *
+     * @returns boolean indicating whether the graph is undirected
+     */
+    public boolean isUndirected() {
+        for (int i = 0; i < labels.length; i++) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                if (!hasArc(targets[k], i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertex(T v) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeVertex(T v) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2, int weight) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertices(Collection<T> vertices) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArcs(int[] from, int[] to) {
+        throw new UnsupportedOperationException("A CSRGraph snapshot cannot be changed.");
+    }
+
+    /**
+     * Snapshots never grow, so there is nothing to do.
+     *
+     * @param numVertices ignored
+     * @param numArcs ignored
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<T> getSuccessors(T v) {
+        LinkedList<T> successors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = offsets[index]; k < offsets[index + 1]; k++) {
+                successors.add(labels[targets[k]]);
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<T> getPredecessors(T v) {
+        LinkedList<T> predecessors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = inOffsets[index]; k < inOffsets[index + 1]; k++) {
+                predecessors.add(labels[sources[k]]);
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Checks how many arcs end at vertex v.
+     *
+     * @return the number of predecessors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : inOffsets[index + 1] - inOffsets[index];
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     *
+     * @return the number of successors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Performs a breadth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> BFtraversal(T v) {
+        return new GraphTraversal<T>(this).BFtraversal(v);
+    }
+
+    /**
+     * Finds the hop distance from the user-specified vertex to every vertex
+     * of the graph with a single breadth-first pass.
+     *
+     * @return an array keyed by vertex index with the number of arcs on a
+     * shortest path from v to each vertex, or -1 where there is no path
+     * @param v the vertex you want to measure distances from
+     */
+    public int[] BFdistances(T v) {
+        return new GraphTraversal<T>(this).distances(v);
+    }
+
+    /**
+     * Performs a depth-first traversal of the graph, beginning at the
+     * user-specificed vertex. Like AdjListsGraph, it always moves on to the
+     * unvisited successor with the lowest index.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> DFtraversal(T v) {
+        return new GraphTraversal<T>(this).DFtraversal(v);
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of this graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        try {
+            new GraphExporter<T>(this).saveToTGF(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the graph
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Vertices:\n" + Arrays.toString(labels) + "\nEdges:\n");
+        for (int i = 0; i < labels.length; i++) {
+            result.append("from " + labels[i] + ":\t" + getSuccessors(labels[i]) + "\n");
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 500; v++) {
+            baseline.addVertex(v * 3); //the vertices are not their indices
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 5000; i++) {
+            int v1 = random.nextInt(500) * 3;
+            int v2 = random.nextInt(500) * 3;
+            if (i % 3 == 0) {
+                baseline.addArc(v1, v2, random.nextInt(21) - 10); //some weights are negative
+            } else {
+                baseline.addArc(v1, v2);
+            }
+        }
+        CSRGraph<Integer> g = baseline.freeze();
+
+        boolean sorted = true;
+        for (int i = 0; i < g.getNumVertices(); i++) {
+            for (int k = 1; k < g.outDegreeAt(i); k++) {
+                sorted = sorted && g.successorAt(i, k - 1) < g.successorAt(i, k);
+            }
+        }
+        System.out.println("Testing freeze() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+        System.out.println("Testing the rows are sorted by index:\t" + sorted);
+        System.out.println("Testing isUndirected() against AdjListsGraph:\t" + (g.isUndirected() == baseline.isUndirected()));
+
+        int numArcs = g.getNumArcs();
+        int w = 3;
+        while (baseline.isArc(0, w)) {
+            w += 3;
+        }
+        baseline.addArc(0, w);
+        System.out.println("Testing the snapshot does not change with the graph:\t"
+            + (!g.isArc(0, w) && g.getNumArcs() == numArcs && baseline.freeze().isArc(0, w)));
+    }
+}
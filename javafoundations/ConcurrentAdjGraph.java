@@ -0,0 +1,792 @@
+/**
+ * A directed graph that many threads can fill at the same time. Vertices
+ * are registered in a ConcurrentHashMap, and every vertex guards its own
+ * successor and predecessor arrays with its own lock, so workers adding
+ * arcs between different vertices never wait for each other and there is
+ * no lock over the whole graph.
+ *
+ * An arc changes two vertices (the origin's successors and the
+ * destination's predecessors), so addArc and removeArc hold both of their
+ * locks, always taken in the order the vertices were created so that two
+ * threads can never deadlock. A removed vertex is marked as such under its
+ * own lock first, after which no thread can add an arc to it.
+ *
+ * Reads are safe at any time, but while other threads are still adding,
+ * they only describe the graph as it was at some moment. freeze() is meant
+ * for when the ingest is done, to get a CSRGraph to analyze.
+ *
+ * Every vertex is also given an index, the order it was created in: the
+ * first vertex added is 0, the next 1, and so on, so addArcs can add arcs
+ * by index. Handing out an index takes a short lock over the index table,
+ * so adding a vertex is the one thing threads can wait on each other for.
+ * The index of a removed vertex is not given out again.
+ *
+ * Short successor and predecessor arrays are searched from the start, but
+ * once one grows past SCAN_LIMIT entries it also keeps a hash index from
+ * each entry's vertex index to its place in the array, so checking for an
+ * arc on a hub, or removing one, does not scan the whole array.
+ *
+ * Arc weights are kept by the origin, in an int array parallel to its
+ * successors that is made the first time one of its arcs gets a weight
+ * other than 1.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.io.*;
+
+public class ConcurrentAdjGraph<T> implements Graph<T> {
+    static final int SCAN_LIMIT = 8; //longest array searched without an index
+
+    // instance variables
+    protected ConcurrentHashMap<T,Node<T>> nodes; //key = vertex, value = its adjacency
+    protected Node<T>[] byOrder; //key = vertex index, value = its node (null once removed); guarded by this
+    protected int numCreated; //how many indices have been given out; guarded by this
+    protected LongAdder numArcs; //a striped counter, so adding arcs does not contend on it
+
+    /**
+     * One vertex and its arcs. Everything but label and order is guarded by
+     * the node's own lock.
+     */
+    protected static class Node<T> {
+        final T label;
+        final int order; //the vertex index; nodes are always locked in increasing order
+        final Row<T> out = new Row<T>(); //successors
+        final Row<T> in = new Row<T>(); //predecessors
+        boolean removed;
+
+        Node(T label, int order) {
+            this.label = label;
+            this.order = order;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node<?>[length];
+        }
+    }
+
+    /**
+     * The successors or predecessors of one node, in no set order, with
+     * their arc weights. Guarded by the lock of the node it belongs to.
+     */
+    protected static class Row<T> {
+        Node<T>[] nodes = Node.newArray(4);
+        int[] weights; //parallel to nodes; null while every weight is 1
+        int size;
+        IntIndexMap positions; //key = vertex index, value = place in nodes; null until size > SCAN_LIMIT
+
+        /**
+         * Finds a node in the row.
+         *
+         * @param node the node to find
+         * @return its position, or -1 if it is not there
+         */
+        int find(Node<T> node) {
+            if (positions != null) {
+                return positions.get(node.order);
+            }
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the weight of the arc at a position.
+         *
+         * @param i the position
+         * @return the weight of the arc there
+         */
+        int weightAt(int i) {
+            return (weights == null) ? 1 : weights[i];
+        }
+
+        /**
+         * Sets the weight of the arc at a position, making the weights
+         * array the first time a weight other than 1 is set.
+         *
+         * @param i the position
+         * @param weight the weight
+         */
+        void setWeight(int i, int weight) {
+            if (weights == null) {
+                if (weight == 1) {
+                    return;
+                }
+                weights = new int[nodes.length];
+                Arrays.fill(weights, 1);
+            }
+            weights[i] = weight;
+        }
+
+        /**
+         * Adds a node to the end of the row. It must not be there already.
+         *
+         * @param node the node to add
+         * @param weight the weight of the arc to or from it
+         */
+        void add(Node<T> node, int weight) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, nodes.length);
+                }
+            }
+            nodes[size] = node;
+            setWeight(size, weight);
+            size++;
+            if (positions != null) {
+                positions.put(node.order, size - 1);
+            } else if (size > SCAN_LIMIT) {
+                positions = new IntIndexMap(size * 2);
+                for (int i = 0; i < size; i++) {
+                    positions.put(nodes[i].order, i);
+                }
+            }
+        }
+
+        /**
+         * Removes the node at a position. The last node moves into its
+         * place, since order does not matter.
+         *
+         * @param i the position
+         */
+        void removeAt(int i) {
+            int last = --size;
+            if (positions != null) {
+                positions.remove(nodes[i].order);
+                if (i != last) {
+                    positions.put(nodes[last].order, i);
+                }
+            }
+            nodes[i] = nodes[last];
+            nodes[last] = null;
+            if (weights != null) {
+                weights[i] = weights[last];
+            }
+        }
+    }
+
+    /**
+     * Constructor for objects of class ConcurrentAdjGraph
+     */
+    public ConcurrentAdjGraph() {
+        this(16);
+    }
+
+    /**
+     * Constructor for objects of class ConcurrentAdjGraph, sized for a
+     * number of vertices so the table does not have to grow while threads
+     * are adding them.
+     *
+     * @param expectedVertices how many vertices the graph is expected to hold
+     */
+    public ConcurrentAdjGraph(int expectedVertices) {
+        nodes = new ConcurrentHashMap<T,Node<T>>(expectedVertices);
+        byOrder = Node.newArray(Math.max(expectedVertices, 16));
+        numCreated = 0;
+        numArcs = new LongAdder();
+    }
+
+    /**
+     * Returns a boolean indicating whether this graph is empty or not.
+     *
+     * @return true if this graph is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getNumVertices() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the number of arcs in the graph.
+     *
+     * @return the number of arcs
+     */
+    public int getNumArcs() {
+        return numArcs.intValue();
+    }
+
+    /**
+     * Returns true if an arc exists between two given vertices
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     * @return true if there is an arc from v1 to v2
+     */
+    public boolean isArc(T v1, T v2) {
+        Node<T> origin = nodes.get(v1);
+        Node<T> destination = nodes.get(v2);
+        if (origin == null || destination == null) {
+            return false;
+        }
+        synchronized (origin) {
+            return origin.out.find(destination) != -1;
+        }
+    }
+
+    /**
+     * Returns the weight of the arc between two given vertices
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     * @return the weight of the arc, 1 if it was added without a weight,
+     * or 0 if there is no such arc
+     */
+    public int getWeight(T v1, T v2) {
+        Node<T> origin = nodes.get(v1);
+        Node<T> destination = nodes.get(v2);
+        if (origin == null || destination == null) {
+            return 0;
+        }
+        synchronized (origin) {
+            int position = origin.out.find(destination);
+            return (position == -1) ? 0 : origin.out.weightAt(position);
+        }
+    }
+
+    /**
+     * Returns true if an edge exists between two given vertices
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @return true if there are arcs both ways between v1 and v2
+     */
+    public boolean isEdge(T v1, T v2) {
+        return isArc(v1, v2) && isArc(v2, v1);
+    }
+
+    /**
+     * Returns true if the graph is undirected, false otherwise
+     *
+     * @return true if every arc has an arc going back the other way
+     */
+    public boolean isUndirected() {
+        for (Node<T> node : nodes.values()) {
+            for (T successor : getSuccessors(node.label)) {
+                if (!isArc(successor, node.label)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a vertex to the graph. Any number of threads can add vertices at
+     * once; if two add the same vertex, it is only added once, and given
+     * only one index.
+     *
+     * @param v the vertex to be added
+     */
+    public void addVertex(T v) {
+        nodes.computeIfAbsent(v, this::createNode);
+    }
+
+    /**
+     * Makes the node for a new vertex and gives it the next index.
+     *
+     * @param v the vertex
+     * @return its node
+     */
+    private synchronized Node<T> createNode(T v) {
+        if (numCreated == byOrder.length) {
+            byOrder = Arrays.copyOf(byOrder, numCreated * 2);
+        }
+        Node<T> node = new Node<T>(v, numCreated);
+        byOrder[numCreated++] = node;
+        return node;
+    }
+
+    /**
+     * Adds a collection of vertices to the graph.
+     *
+     * @param vertices the vertices to be added
+     */
+    public void addVertices(Collection<T> vertices) {
+        for (T v : vertices) {
+            addVertex(v);
+        }
+    }
+
+    /**
+     * Adds many arcs at once, given by vertex index: the i-th vertex added
+     * to the graph has index i. Several threads can call this at once, on
+     * different slices of the arcs.
+     *
+     * @param from the index of the origin of each arc
+     * @param to the index of the destination of each arc
+     */
+    public void addArcs(int[] from, int[] to) {
+        Node<T>[] table;
+        int created;
+        synchronized (this) { //takes the index table once, not once per arc
+            table = byOrder;
+            created = numCreated;
+        }
+        for (int i = 0; i < from.length; i++) {
+            Node<T> origin = (from[i] >= 0 && from[i] < created) ? table[from[i]] : nodeAt(from[i]);
+            Node<T> destination = (to[i] >= 0 && to[i] < created) ? table[to[i]] : nodeAt(to[i]);
+            if (origin == null || destination == null) {
+                System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+                continue;
+            }
+            link(origin, destination, 1, false);
+        }
+    }
+
+    /**
+     * Finds the node with a given vertex index.
+     *
+     * @param index the vertex index
+     * @return its node, or null if there is no such vertex
+     */
+    private synchronized Node<T> nodeAt(int index) {
+        return (index >= 0 && index < numCreated) ? byOrder[index] : null;
+    }
+
+    /**
+     * Grows the index table, if needed, so that it can hold a number of
+     * vertices without growing again. The hash table of vertices cannot be
+     * grown in place while other threads use it, so size that with the
+     * constructor; arcs are kept per vertex and need no room set aside.
+     *
+     * @param numVertices the number of vertices the graph is expected to hold
+     * @param numArcs ignored
+     */
+    public synchronized void ensureCapacity(int numVertices, int numArcs) {
+        if (byOrder.length < numVertices) {
+            byOrder = Arrays.copyOf(byOrder, numVertices);
+        }
+    }
+
+    /**
+     * Removes a vertex and all of its arcs from the graph.
+     *
+     * @param v the vertex to be removed
+     */
+    public void removeVertex(T v) {
+        Node<T> node = nodes.get(v);
+        if (node == null) {
+            System.out.println("Tried to remove vertex that doesn't exist.");
+            return;
+        }
+
+        // from here on no thread can add an arc to or from the node
+        Node<T>[] successors;
+        Node<T>[] predecessors;
+        synchronized (node) {
+            if (node.removed) {
+                return; //another thread got here first
+            }
+            node.removed = true;
+            successors = Arrays.copyOf(node.out.nodes, node.out.size);
+            predecessors = Arrays.copyOf(node.in.nodes, node.in.size);
+        }
+        nodes.remove(v, node);
+        synchronized (this) {
+            byOrder[node.order] = null;
+        }
+
+        for (Node<T> successor : successors) {
+            unlink(node, successor);
+        }
+        for (Node<T> predecessor : predecessors) {
+            unlink(predecessor, node);
+        }
+    }
+
+    /**
+     * Adds an arc between two given vertices. Threads adding arcs that
+     * share no vertex never wait for each other.
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     */
+    public void addArc(T v1, T v2) {
+        link(v1, v2, 1, false);
+    }
+
+    /**
+     * Adds an arc with a weight between two given vertices, or changes the
+     * weight of the arc if it is already there.
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     * @param weight the weight of the arc
+     */
+    public void addArc(T v1, T v2, int weight) {
+        link(v1, v2, weight, true);
+    }
+
+    /**
+     * Adds an arc to the arrays of both of its ends, holding both locks.
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     * @param weight the weight of the arc
+     * @param replace whether to change the weight of an arc already there
+     */
+    private void link(T v1, T v2, int weight, boolean replace) {
+        Node<T> origin = nodes.get(v1);
+        Node<T> destination = nodes.get(v2);
+        if (origin == null || destination == null) {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+            return;
+        }
+        link(origin, destination, weight, replace);
+    }
+
+    /**
+     * Adds an arc to the rows of both of its nodes, holding both locks.
+     *
+     * @param origin the origin of the arc
+     * @param destination the destination of the arc
+     * @param weight the weight of the arc
+     * @param replace whether to change the weight of an arc already there
+     */
+    private void link(Node<T> origin, Node<T> destination, int weight, boolean replace) {
+        Node<T> first = (origin.order <= destination.order) ? origin : destination;
+        Node<T> second = (first == origin) ? destination : origin;
+        synchronized (first) {
+            synchronized (second) {
+                if (origin.removed || destination.removed) {
+                    return; //lost the race to a removeVertex
+                }
+                int position = origin.out.find(destination);
+                if (position != -1) {
+                    if (replace) {
+                        origin.out.setWeight(position, weight);
+                    }
+                    return; //the arc is already there
+                }
+                origin.out.add(destination, weight);
+                destination.in.add(origin, 1);
+            }
+        }
+        numArcs.increment();
+    }
+
+    /**
+     * Removes an arc between two given vertices
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     */
+    public void removeArc(T v1, T v2) {
+        Node<T> origin = nodes.get(v1);
+        Node<T> destination = nodes.get(v2);
+        if (origin == null || destination == null) {
+            System.out.println("Tried to remove edge from one or more vertex that doesn't exist.");
+            return;
+        }
+        unlink(origin, destination);
+    }
+
+    /**
+     * Takes the arc from origin to destination out of both of their arrays,
+     * if it is there.
+     *
+     * @param origin the origin of the arc
+     * @param destination the destination of the arc
+     */
+    private void unlink(Node<T> origin, Node<T> destination) {
+        Node<T> first = (origin.order <= destination.order) ? origin : destination;
+        Node<T> second = (first == origin) ? destination : origin;
+        synchronized (first) {
+            synchronized (second) {
+                int position = origin.out.find(destination);
+                if (position == -1) {
+                    return;
+                }
+                origin.out.removeAt(position);
+                destination.in.removeAt(destination.in.find(origin));
+            }
+        }
+        numArcs.decrement();
+    }
+
+    /**
+     * Adds an edge (arcs in both directions) between two given vertices
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void addEdge(T v1, T v2) {
+        addArc(v1, v2);
+        addArc(v2, v1);
+    }
+
+    /**
+     * Removes an edge between two given vertices
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void removeEdge(T v1, T v2) {
+        removeArc(v1, v2);
+        removeArc(v2, v1);
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @param v the vertex
+     * @return a linked list of the successors of v
+     */
+    public LinkedList<T> getSuccessors(T v) {
+        LinkedList<T> result = new LinkedList<T>();
+        Node<T> node = nodes.get(v);
+        if (node != null) {
+            synchronized (node) {
+                for (int i = 0; i < node.out.size; i++) {
+                    result.add(node.out.nodes[i].label);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v.
+     *
+     * @param v the vertex
+     * @return a linked list of the predecessors of v
+     */
+    public LinkedList<T> getPredecessors(T v) {
+        LinkedList<T> result = new LinkedList<T>();
+        Node<T> node = nodes.get(v);
+        if (node != null) {
+            synchronized (node) {
+                for (int i = 0; i < node.in.size; i++) {
+                    result.add(node.in.nodes[i].label);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of arcs that end at vertex v.
+     *
+     * @param v the vertex
+     * @return the in-degree of v, or 0 if v is not in the graph
+     */
+    public int getInDegree(T v) {
+        Node<T> node = nodes.get(v);
+        if (node == null) {
+            return 0;
+        }
+        synchronized (node) {
+            return node.in.size;
+        }
+    }
+
+    /**
+     * Returns the number of arcs that start at vertex v.
+     *
+     * @param v the vertex
+     * @return the out-degree of v, or 0 if v is not in the graph
+     */
+    public int getOutDegree(T v) {
+        Node<T> node = nodes.get(v);
+        if (node == null) {
+            return 0;
+        }
+        synchronized (node) {
+            return node.out.size;
+        }
+    }
+
+    /**
+     * Makes an immutable compressed sparse row copy of this graph. Vertices
+     * are numbered in the order they were first added. Meant to be called
+     * once the threads filling the graph are done.
+     *
+     * @return a CSRGraph with the same vertices, arcs and weights
+     */
+    public CSRGraph<T> freeze() {
+        Node<T>[] table;
+        int created;
+        synchronized (this) {
+            table = byOrder;
+            created = numCreated;
+        }
+        int[] index = new int[created]; //key = vertex index, value = index in the CSRGraph
+        int numVertices = 0;
+        for (int order = 0; order < created; order++) {
+            index[order] = (table[order] == null) ? -1 : numVertices++;
+        }
+        @SuppressWarnings("unchecked")
+        T[] labels = (T[]) new Object[numVertices];
+        for (int order = 0; order < created; order++) {
+            if (index[order] != -1) {
+                labels[index[order]] = table[order].label;
+            }
+        }
+
+        int[] offsets = new int[numVertices + 1];
+        int[] targets = new int[16];
+        int[] weights = null; //made once a node with weights is reached
+        int position = 0;
+        for (int order = 0; order < created; order++) {
+            if (index[order] == -1) {
+                continue;
+            }
+            int i = index[order];
+            Row<T> row = table[order].out;
+            offsets[i] = position;
+            synchronized (table[order]) {
+                if (position + row.size > targets.length) {
+                    targets = Arrays.copyOf(targets, Math.max(targets.length * 2, position + row.size));
+                    if (weights != null) {
+                        weights = Arrays.copyOf(weights, targets.length);
+                    }
+                }
+                if (row.weights != null && weights == null) {
+                    weights = new int[targets.length];
+                    Arrays.fill(weights, 1);
+                }
+                for (int k = 0; k < row.size; k++) {
+                    int target = row.nodes[k].order;
+                    if (target < created && index[target] != -1) { //skips vertices added or removed after freeze() started
+                        if (weights != null) {
+                            weights[position] = row.weightAt(k);
+                        }
+                        targets[position++] = index[target];
+                    }
+                }
+            }
+            CSRGraph.sortRow(targets, weights, offsets[i], position); //rows are kept sorted for binary search
+        }
+        offsets[numVertices] = position;
+
+        return new CSRGraph<T>(labels, offsets, Arrays.copyOf(targets, position),
+                               (weights == null) ? null : Arrays.copyOf(weights, position));
+    }
+
+    /**
+     * Writes this graph into a file in the TGF format.
+     *
+     * @param fileName the name of the file to write to
+     */
+    public void saveToTGF(String fileName) {
+        freeze().saveToTGF(fileName);
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the graph
+     */
+    public String toString() {
+        return freeze().toString();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = 200;
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        ConcurrentAdjGraph<Integer> g = new ConcurrentAdjGraph<Integer>(n);
+        for (int v = 0; v < n; v++) {
+            baseline.addVertex(v);
+            g.addVertex(v); //vertex v gets index v
+        }
+
+        Random random = new Random(230);
+        int[] from = new int[4000];
+        int[] to = new int[4000];
+        for (int i = 0; i < from.length; i++) {
+            from[i] = (i % 4 == 0) ? 0 : random.nextInt(n); //makes vertex 0 a hub
+            to[i] = random.nextInt(n);
+            baseline.addArc(from[i], to[i]);
+        }
+
+        // four threads add a quarter of the arcs each, two by addArc and two by addArcs
+        Thread[] threads = new Thread[4];
+        for (int w = 0; w < threads.length; w++) {
+            final int first = w * from.length / 4;
+            final int last = (w + 1) * from.length / 4;
+            final boolean byIndex = (w % 2 == 1);
+            threads[w] = new Thread(() -> {
+                if (byIndex) {
+                    g.addArcs(Arrays.copyOfRange(from, first, last), Arrays.copyOfRange(to, first, last));
+                } else {
+                    for (int i = first; i < last; i++) {
+                        g.addArc(from[i], to[i]);
+                    }
+                }
+            });
+            threads[w].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        List<Integer> live = new ArrayList<Integer>();
+        for (int v = 0; v < n; v++) {
+            live.add(v);
+        }
+        System.out.println("Testing addArc() and addArcs() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline, live));
+
+        for (int v = 0; v < n; v += 7) {
+            baseline.removeArc(0, v);
+            g.removeArc(0, v);
+        }
+        for (int v = 1; v < n; v += 13) {
+            baseline.removeVertex(v);
+            g.removeVertex(v);
+            live.remove(Integer.valueOf(v));
+        }
+        System.out.println("Testing removeArc() and removeVertex() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline, live));
+        System.out.println("Testing getInDegree() with 5:\t" + (g.getInDegree(5) == baseline.getPredecessors(5).size()));
+        System.out.println("Testing freeze() against AdjListsGraph:\t" + GraphChecks.sameArcs(g.freeze(), baseline));
+
+        // ingests the way RATgraph would: worker w takes RATs w, w + 4, ... and
+        // adds each RAT and its stories, so stories are added by whichever worker gets there first
+        int[][] stories = new int[1000][];
+        AdjListsGraph<Integer> expected = new AdjListsGraph<Integer>();
+        for (int rat = 0; rat < stories.length; rat++) {
+            stories[rat] = new int[1 + random.nextInt(6)];
+            expected.addVertex(rat);
+            for (int k = 0; k < stories[rat].length; k++) {
+                stories[rat][k] = stories.length + ((k == 0) ? 0 : random.nextInt(300)); //every RAT tweets about story 0
+                expected.addVertex(stories[rat][k]);
+                expected.addEdge(rat, stories[rat][k]);
+            }
+        }
+        ConcurrentAdjGraph<Integer> ingested = new ConcurrentAdjGraph<Integer>(16);
+        for (int w = 0; w < threads.length; w++) {
+            final int first = w;
+            threads[w] = new Thread(() -> {
+                for (int rat = first; rat < stories.length; rat += 4) {
+                    ingested.addVertex(rat);
+                    for (int story : stories[rat]) {
+                        ingested.addVertex(story);
+                        ingested.addEdge(rat, story);
+                    }
+                }
+            });
+            threads[w].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        System.out.println("Testing addVertex() and addEdge() from four workers against AdjListsGraph:\t"
+            + GraphChecks.sameArcs(ingested.freeze(), expected));
+    }
+}
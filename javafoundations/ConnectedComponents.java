@@ -0,0 +1,183 @@
+/**
+ * The connected components of a graph, found in one near-linear pass that
+ * unions the two ends of every arc in a UnionFind. Arcs are treated as
+ * undirected, so for a directed graph these are the weakly connected
+ * components. Components are numbered 0 ... getNumComponents() - 1 in the
+ * order of their lowest vertex index.
+ *
+ * The components describe the graph at the time they were found; they are
+ * not updated when the graph changes.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+public class ConnectedComponents<T> {
+    // instance variables
+    protected IndexedGraph<T> graph;
+    protected int[] componentIds; //key = vertex index, value = component id
+    protected int[] sizes; //key = component id, value = number of vertices in it
+    protected int giant; //id of the largest component, -1 for an empty graph
+
+    /**
+     * Finds the connected components of a graph.
+     *
+     * @param graph the graph to split into components
+     */
+    public ConnectedComponents(IndexedGraph<T> graph) {
+        this.graph = graph;
+        int n = graph.getNumVertices();
+
+        UnionFind sets = new UnionFind(n);
+        for (int v = 0; v < n; v++) {
+            int degree = graph.outDegreeAt(v);
+            for (int k = 0; k < degree; k++) {
+                sets.union(v, graph.successorAt(v, k));
+            }
+        }
+
+        // numbers the components densely, in order of their lowest vertex
+        int[] idOfRoot = new int[n];
+        Arrays.fill(idOfRoot, -1);
+        componentIds = new int[n];
+        sizes = new int[sets.getNumSets()];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = sets.find(v);
+            if (idOfRoot[root] == -1) {
+                idOfRoot[root] = count++;
+            }
+            componentIds[v] = idOfRoot[root];
+            sizes[componentIds[v]]++;
+        }
+
+        giant = -1;
+        for (int c = 0; c < sizes.length; c++) {
+            if (giant == -1 || sizes[c] > sizes[giant]) {
+                giant = c;
+            }
+        }
+    }
+
+    /**
+     * Checks the number of components.
+     *
+     * @return the number of connected components
+     */
+    public int getNumComponents() {
+        return sizes.length;
+    }
+
+    /**
+     * Determines whether the whole graph is one component.
+     *
+     * @return true if the graph is connected (an empty graph counts as connected)
+     */
+    public boolean isConnected() {
+        return sizes.length <= 1;
+    }
+
+    /**
+     * Gets the component of the vertex with the given index.
+     *
+     * @param index the index of the vertex
+     * @return the id of its component
+     */
+    public int componentAt(int index) {
+        return componentIds[index];
+    }
+
+    /**
+     * Gets the component of a vertex.
+     *
+     * @param v the vertex
+     * @return the id of its component, or -1 if v is not in the graph
+     */
+    public int componentOf(T v) {
+        int index = graph.indexOf(v);
+        return (index == -1) ? -1 : componentIds[index];
+    }
+
+    /**
+     * Gets the component id of every vertex.
+     *
+     * @return an array keyed by vertex index, holding component ids
+     */
+    public int[] getComponentIds() {
+        return componentIds;
+    }
+
+    /**
+     * Checks how many vertices are in a component.
+     *
+     * @param component the id of the component
+     * @return its number of vertices
+     */
+    public int sizeOf(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Gets the largest component.
+     *
+     * @return the id of the largest component, or -1 for an empty graph
+     */
+    public int getGiantComponent() {
+        return giant;
+    }
+
+    /**
+     * Lists the vertices of a component.
+     *
+     * @param component the id of the component
+     * @return a linked list with its vertices, in index order
+     */
+    public LinkedList<T> getMembers(int component) {
+        LinkedList<T> members = new LinkedList<T>();
+        for (int v = 0; v < componentIds.length; v++) {
+            if (componentIds[v] == component) {
+                members.add(graph.vertexAt(v));
+            }
+        }
+        return members;
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        AdjListsGraph<Integer> undirected = new AdjListsGraph<Integer>(); //the same arcs both ways
+        for (int v = 0; v < 500; v++) {
+            baseline.addVertex(v);
+            undirected.addVertex(v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 300; i++) {
+            int v1 = random.nextInt(500);
+            int v2 = random.nextInt(500);
+            baseline.addArc(v1, v2); //directed, so these are weak components
+            undirected.addEdge(v1, v2);
+        }
+        CSRGraph<Integer> g = baseline.freeze();
+        ConnectedComponents<Integer> components = new ConnectedComponents<Integer>(g);
+
+        // two vertices share a component exactly when a search over the arcs both ways gets from one to the other
+        boolean same = true;
+        int largest = 0;
+        Set<Integer> seen = new HashSet<Integer>();
+        for (int v = 0; v < 500; v++) {
+            Map<Integer,Integer> reached = GraphChecks.plainDistances(undirected, v);
+            for (int w = 0; w < 500; w++) {
+                same = same && reached.containsKey(w) == (components.componentOf(v) == components.componentOf(w));
+            }
+            same = same && components.sizeOf(components.componentOf(v)) == reached.size()
+                && components.getMembers(components.componentOf(v)).size() == reached.size();
+            largest = Math.max(largest, reached.size());
+            seen.add(components.componentOf(v));
+        }
+        System.out.println("Testing ConnectedComponents against a plain BFS over AdjListsGraph:\t"
+            + (same && seen.size() == components.getNumComponents()
+               && components.sizeOf(components.getGiantComponent()) == largest && !components.isConnected()));
+    }
+}
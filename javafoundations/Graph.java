@@ -9,6 +9,7 @@
  
 package javafoundations;
 
+import java.util.Collection;
 import java.util.LinkedList;
 
 public interface Graph<T>
@@ -94,6 +95,30 @@ public interface Graph<T>
      *  */
     public void addArc (T vertex1, T vertex2);
 
+    /** 
+     * Inserts an arc with a weight between two given vertices of this 
+     * graph, or changes the weight of the arc if it is already there.
+     * If at least one of the vertices does not exist, the graph is not 
+     * changed. Arcs added without a weight have weight 1.
+     * 
+     * @param the origin of the arc to be added to this graph
+     * @param the destination of the arc to be added to this graph
+     * @param the weight of the arc
+     * 
+     *  */
+    public void addArc (T vertex1, T vertex2, int weight);
+
+    /** 
+     * Returns the weight of the arc from the first vertex to the second.
+     * 
+     * @param the origin of the arc
+     * @param the destination of the arc
+     * @return the weight of the arc, 1 if it was added without a weight,
+     * or 0 if there is no such arc
+     * 
+     *  */
+    public int getWeight (T vertex1, T vertex2);
+
     /** 
      * Removes the arc between two given vertices of this graph.
      * If one of the two vertices does not exist in the graph,
@@ -125,6 +150,41 @@ public interface Graph<T>
      */
     public void removeEdge (T vertex1, T vertex2);
 
+    /** 
+     * Adds all the given vertices to this graph, in the order of the
+     * collection. Vertices that already exist are skipped. Storage is 
+     * grown once for the whole batch rather than vertex by vertex.
+     * 
+     * @param The vertices to be added to this graph
+     * */
+    public void addVertices (Collection<T> vertices);
+
+    /** 
+     * Inserts a batch of arcs between vertices given by index: one arc 
+     * from the vertex with index from[i] to the vertex with index to[i], 
+     * for every i. The index of a vertex is its position in the order the 
+     * vertices were added (as long as none was removed since), or what 
+     * indexOf returns for an IndexedGraph. The indices are checked once,
+     * for the whole batch; if any is out of range the graph is not 
+     * changed. Arcs that already exist are skipped.
+     * 
+     * @param the indices of the origins of the arcs
+     * @param the indices of the destinations of the arcs, as many as origins
+     * 
+     *  */
+    public void addArcs (int[] from, int[] to);
+
+    /** 
+     * Grows the internal storage of this graph, if needed, so that it can 
+     * hold the given numbers of vertices and arcs without growing again. 
+     * It is only a hint; the graph does not change.
+     * 
+     * @param the number of vertices the graph is expected to hold
+     * @param the number of arcs the graph is expected to hold
+     * 
+     *  */
+    public void ensureCapacity (int numVertices, int numArcs);
+
     /** 
      * Return all the vertices, in this graph, adjacent to the given vertex.
      * 
@@ -146,6 +206,28 @@ public interface Graph<T>
      * */
     public LinkedList<T> getPredecessors(T vertex);
 
+    /** 
+     * Returns the number of arcs that end at the given vertex, that is,
+     * the number of its predecessors.
+     * 
+     * @param A vertex in the graph whose in-degree will be returned.
+     * @return the number of arcs x -> vertex, or 0 if the vertex is not 
+     * in the graph
+     * 
+     * */
+    public int getInDegree(T vertex);
+
+    /** 
+     * Returns the number of arcs that start at the given vertex, that is,
+     * the number of its successors.
+     * 
+     * @param A vertex in the graph whose out-degree will be returned.
+     * @return the number of arcs vertex -> x, or 0 if the vertex is not 
+     * in the graph
+     * 
+     * */
+    public int getOutDegree(T vertex);
+
     /** 
      * Returns a string representation of this graph.
      * 
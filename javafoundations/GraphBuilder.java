@@ -10,9 +10,8 @@
 package javafoundations;
 
 
-import java.io.File;
 import java.io.IOException;
-import java.util.Scanner;
+import java.util.ArrayList;
 
 /* 
  * When we want to create a graph of some specific object type,
@@ -36,9 +35,39 @@ abstract class GraphBuilder<T> {
     abstract T createOneThing(String s);
 
     /*
-     * Reads from the input .tgf file, line by line.
+     * Creates the empty graph that build() fills in. Extensions can 
+     * override it to build into a graph implementation specialised 
+     * for their type (like IntGraphBuilder does with IntAdjGraph).
+     * 
+     * @return a new, empty graph. An AdjListsGraph, unless overriden.
+     * 
+     * */
+    Graph<T> createGraph() {
+        return new AdjListsGraph<T>();
+    }
+
+    /*
+     * Adds a batch of arcs, given by vertex index, that fill() knows are
+     * all new: the rows of a loaded graph never repeat an arc, and the
+     * graph had none before. Extensions whose graph can skip its check for
+     * duplicates on such a batch can override it (like IntGraphBuilder
+     * does).
+     * 
+     * @param the graph to add the arcs to
+     * @param the index of the origin of each arc
+     * @param the index of the destination of each arc
+     * 
+     * */
+    void addNewArcs(Graph<T> g, int[] from, int[] to) {
+        g.addArcs(from, to);
+    }
+
+    /*
+     * Reads from the input .tgf file with a TGFLoader, which maps the file
+     * and parses its arcs in parallel.
      * Creates the vertex objects, and adds them to the graph.
-     * Then, adds the connections between the vertices.
+     * Then, adds the connections between the vertices. The ids on the
+     * arc lines are the ids from the vertex lines.
      * 
      * PRECONDITION: the input file is in the TGF format
      * 
@@ -46,40 +75,113 @@ abstract class GraphBuilder<T> {
      * @return the constructed graph, based on the input TGF file.
      * 
      * */
-    public AdjListsGraph<T> build (String fileName) {
+    public Graph<T> build (String fileName) {
         //create an empty graph
-        AdjListsGraph<T> g = new AdjListsGraph<T>();
-        //open the file for reading
+        Graph<T> g = createGraph();
         try{ // to read from the tgf file
-            Scanner scanner = new Scanner(new File(fileName));
-
-            //read vertices
-            while ( !scanner.next().equals("#")) {
-                String line = "";
-                //read a line as String
-                line = scanner.nextLine().trim();
-                //create an object of the specific type the graph contains,
-                //based on the read string
-                T thing = createOneThing(line);
-                //add that object to the graph as a new vertex
-                g.addVertex(thing); 
-            }
+            fill(g, TGFLoader.load(fileName));
+        } catch (IOException ex) {
+            System.out.println(fileName + " ***ERROR*** The file was not found: " + ex);
+        }
 
-            //read arcs
-            while (scanner.hasNext()){
-                //read from to vertices, in one line as integers
-                String from = scanner.next();
-                String to = scanner.next();
-                g.addArc(createOneThing(from), createOneThing(to));
-            }
+        return g;
+
+    }
+
+    /*
+     * Reads from the input .tgf file into an immutable CSRGraph, without
+     * adding the arcs one at a time. The fastest way to load a big TGF
+     * file that only needs to be analysed, not changed.
+     * 
+     * @param the file name to read from
+     * @return the constructed snapshot, or null if the file could not be read
+     * 
+     * */
+    public CSRGraph<T> buildSnapshot (String fileName) {
+        try{
+            CSRGraph<String> stored = TGFLoader.load(fileName);
 
-            scanner.close();
+            //only the labels change type; the arcs are shared as they are
+            @SuppressWarnings("unchecked")
+            T[] things = (T[]) new Object[stored.getNumVertices()];
+            for (int i = 0; i < things.length; i++) {
+                things[i] = createOneThing(stored.vertexAt(i));
+            }
+            return new CSRGraph<T>(things, stored.offsets, stored.targets, stored.weights);
         } catch (IOException ex) {
             System.out.println(fileName + " ***ERROR*** The file was not found: " + ex);
         }
 
+        return null;
+    }
+
+    /*
+     * Reads a graph from a binary graph file (see BinaryGraphFormat),
+     * creating the vertex objects from their stored labels the same way
+     * build() does from the lines of a TGF file.
+     * 
+     * @param the file name to read from
+     * @return the constructed graph, based on the input binary file.
+     * 
+     * */
+    public Graph<T> buildBinary (String fileName) {
+        //create an empty graph
+        Graph<T> g = createGraph();
+        try{
+            fill(g, BinaryGraphFormat.read(fileName));
+        } catch (IOException ex) {
+            System.out.println(fileName + " ***ERROR*** The file could not be read: " + ex);
+        }
+
         return g;
+    }
 
+    /*
+     * Adds the vertices and arcs of a loaded graph to g, creating the
+     * vertex objects from the stored labels.
+     * 
+     * @param the graph to fill
+     * @param the loaded graph, with its labels as Strings
+     * 
+     * */
+    private void fill (Graph<T> g, CSRGraph<String> stored) {
+        int n = stored.getNumVertices();
+        boolean wasEmpty = g.isEmpty();
+        g.ensureCapacity(n, stored.getNumArcs());
+
+        //create the vertex objects, in index order
+        ArrayList<T> things = new ArrayList<T>(n);
+        for (int i = 0; i < n; i++) {
+            things.add(createOneThing(stored.vertexAt(i)));
+        }
+        g.addVertices(things);
+
+        //if every vertex got the same index it has in the file, and the arcs
+        //have no weights, the arcs can be added by index in one batch
+        if (wasEmpty && g.getNumVertices() == n && !stored.isWeighted()) {
+            int[] from = new int[stored.getNumArcs()];
+            int[] to = new int[stored.getNumArcs()];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                for (int k = 0; k < stored.outDegreeAt(i); k++) {
+                    from[count] = i;
+                    to[count++] = stored.successorAt(i, k);
+                }
+            }
+            addNewArcs(g, from, to);
+            return;
+        }
+
+        //otherwise add the arcs between them one at a time
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < stored.outDegreeAt(i); k++) {
+                if (stored.isWeighted()) {
+                    g.addArc(things.get(i), things.get(stored.successorAt(i, k)), stored.weightAt(i, k));
+                } else {
+                    g.addArc(things.get(i), things.get(stored.successorAt(i, k)));
+                }
+            }
+        }
     }
 
-}
\ No newline at end of file
+}
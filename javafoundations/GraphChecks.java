@@ -0,0 +1,136 @@
+/**
+ * GraphChecks.java
+ * Comparisons shared by the main() methods of the graph classes, which
+ * check a new representation against the same graph built as a plain
+ * AdjListsGraph.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+class GraphChecks {
+    /**
+     * Compares two graphs over the given vertices. The graphs agree if they
+     * have the same number of vertices and arcs, and every given vertex has
+     * the same successors and predecessors in both, in any order, with the
+     * same weights.
+     *
+     * @param g the graph being checked
+     * @param expected the graph it should match
+     * @param vertices the vertices to compare
+     * @return true if g and expected agree
+     */
+    static <T> boolean sameArcs(Graph<T> g, Graph<T> expected, Iterable<T> vertices) {
+        if (g.getNumVertices() != expected.getNumVertices() || g.getNumArcs() != expected.getNumArcs()) {
+            return false;
+        }
+        for (T v : vertices) {
+            if (!new HashSet<T>(g.getSuccessors(v)).equals(new HashSet<T>(expected.getSuccessors(v)))
+                || !new HashSet<T>(g.getPredecessors(v)).equals(new HashSet<T>(expected.getPredecessors(v)))) {
+                return false;
+            }
+            for (T w : expected.getSuccessors(v)) {
+                if (g.getWeight(v, w) != expected.getWeight(v, w)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares an indexed graph with the graph it should match. As well as
+     * the checks of sameArcs(g, expected, vertices) over every vertex, each
+     * index must map back to itself and each row read through successorAt
+     * and weightAt must hold the vertex's successors and their weights.
+     *
+     * @param g the graph being checked
+     * @param expected the graph it should match
+     * @return true if g and expected agree
+     */
+    static <T> boolean sameArcs(IndexedGraph<T> g, Graph<T> expected) {
+        List<T> vertices = new ArrayList<T>();
+        for (int i = 0; i < g.getNumVertices(); i++) {
+            T v = g.vertexAt(i);
+            if (g.indexOf(v) != i) {
+                return false;
+            }
+            Set<T> row = new HashSet<T>();
+            for (int k = 0; k < g.outDegreeAt(i); k++) {
+                T w = g.vertexAt(g.successorAt(i, k));
+                if (g.weightAt(i, k) != expected.getWeight(v, w)) {
+                    return false;
+                }
+                row.add(w);
+            }
+            if (row.size() != g.outDegreeAt(i) || !row.equals(new HashSet<T>(expected.getSuccessors(v)))) {
+                return false;
+            }
+            vertices.add(v);
+        }
+        return sameArcs(g, expected, vertices);
+    }
+
+    /**
+     * Finds hop distances the plain way, with a queue of vertices and the
+     * graph's getSuccessors(), to check faster searches against.
+     *
+     * @param g the graph to search
+     * @param start the vertex to search from
+     * @return the distance of every vertex reached, keyed by vertex
+     */
+    static <T> Map<T,Integer> plainDistances(Graph<T> g, T start) {
+        Map<T,Integer> dist = new HashMap<T,Integer>();
+        LinkedList<T> queue = new LinkedList<T>();
+        dist.put(start, 0);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            T current = queue.removeFirst();
+            for (T successor : g.getSuccessors(current)) {
+                if (!dist.containsKey(successor)) {
+                    dist.put(successor, dist.get(current) + 1);
+                    queue.add(successor);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Checks eccentricities, a diameter, a radius and center nodes measured
+     * over some sources against plain searches from each source.
+     *
+     * @param expected the graph the measures should match
+     * @param sources the vertices the measures were taken from
+     * @param eccentricities the measured eccentricity of each source, or
+     *        null if only the extremes were measured
+     * @param diameter the measured diameter
+     * @param radius the measured radius
+     * @param centers the measured center nodes
+     * @return true if every measure matches the plain searches
+     */
+    static <T> boolean sameEccentricities(Graph<T> expected, List<T> sources, int[] eccentricities,
+                                          int diameter, int radius, Collection<T> centers) {
+        int maximum = 0;
+        int minimum = Integer.MAX_VALUE;
+        Set<T> middle = new HashSet<T>();
+        for (int i = 0; i < sources.size(); i++) {
+            int eccentricity = Collections.max(plainDistances(expected, sources.get(i)).values());
+            if (eccentricities != null && eccentricities[i] != eccentricity) {
+                return false;
+            }
+            maximum = Math.max(maximum, eccentricity);
+            if (eccentricity < minimum) {
+                minimum = eccentricity;
+                middle.clear();
+            }
+            if (eccentricity == minimum) {
+                middle.add(sources.get(i));
+            }
+        }
+        return diameter == maximum && radius == minimum && new HashSet<T>(centers).equals(middle);
+    }
+}
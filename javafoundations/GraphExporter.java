@@ -0,0 +1,296 @@
+/**
+ * Writes a graph out as TGF, GraphML (for yEd and most other graph tools)
+ * or a plain edge list. Each format is written in a single pass over the
+ * vertices and their successor indices, straight into a buffered Writer,
+ * so exporting takes time linear in the size of the graph and no memory
+ * beyond the buffer.
+ *
+ * Vertices are written with toString(). In TGF they are numbered from 1,
+ * in GraphML their ids are "n" followed by their index. When the graph is
+ * undirected, GraphML and edge lists have each edge only once.
+ *
+ * An arc whose weight is not 1 has its weight written with it: as the
+ * arc's label in TGF, and as "weight" data (1 by default) in GraphML.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+public class GraphExporter<T> {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // instance variables
+    protected IndexedGraph<T> graph;
+
+    /**
+     * Constructor for objects of class GraphExporter
+     *
+     * @param graph the graph to export
+     */
+    public GraphExporter(IndexedGraph<T> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Opens a file for writing, with a large buffer.
+     *
+     * @param fileName the file to write to
+     * @return a buffered writer for it
+     */
+    private static Writer open(String fileName) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the graph in TGF: one line per vertex ("id label", ids from 1),
+     * a line with "#", then one line per arc ("from-id to-id", followed by
+     * the weight if it is not 1).
+     *
+     * @param w where to write it
+     */
+    public void writeTGF(Writer w) throws IOException {
+        int n = graph.getNumVertices();
+        for (int i = 0; i < n; i++) {
+            w.write(Integer.toString(i + 1));
+            w.write(' ');
+            w.write(String.valueOf(graph.vertexAt(i)));
+            w.write('\n');
+        }
+        w.write('#');
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < graph.outDegreeAt(i); k++) {
+                w.write('\n');
+                w.write(Integer.toString(i + 1));
+                w.write(' ');
+                w.write(Integer.toString(graph.successorAt(i, k) + 1));
+                int weight = graph.weightAt(i, k);
+                if (weight != 1) {
+                    w.write(' ');
+                    w.write(Integer.toString(weight));
+                }
+            }
+        }
+        w.write('\n');
+    }
+
+    /**
+     * Writes the graph in GraphML, with each vertex's label stored as the
+     * "label" data of its node, and each arc's weight, where it is not 1,
+     * as the "weight" data of its edge.
+     *
+     * @param w where to write it
+     */
+    public void writeGraphML(Writer w) throws IOException {
+        boolean undirected = graph.isUndirected();
+        int n = graph.getNumVertices();
+        w.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        w.write("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n");
+        w.write("  <key id=\"label\" for=\"node\" attr.name=\"label\" attr.type=\"string\"/>\n");
+        w.write("  <key id=\"weight\" for=\"edge\" attr.name=\"weight\" attr.type=\"int\"><default>1</default></key>\n");
+        w.write("  <graph id=\"G\" edgedefault=\"" + (undirected ? "undirected" : "directed") + "\">\n");
+        for (int i = 0; i < n; i++) {
+            w.write("    <node id=\"n");
+            w.write(Integer.toString(i));
+            w.write("\"><data key=\"label\">");
+            writeEscaped(w, String.valueOf(graph.vertexAt(i)));
+            w.write("</data></node>\n");
+        }
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < graph.outDegreeAt(i); k++) {
+                int target = graph.successorAt(i, k);
+                if (undirected && target < i) {
+                    continue; //already written from the other end
+                }
+                w.write("    <edge source=\"n");
+                w.write(Integer.toString(i));
+                w.write("\" target=\"n");
+                w.write(Integer.toString(target));
+                int weight = graph.weightAt(i, k);
+                if (weight != 1) {
+                    w.write("\"><data key=\"weight\">");
+                    w.write(Integer.toString(weight));
+                    w.write("</data></edge>\n");
+                } else {
+                    w.write("\"/>\n");
+                }
+            }
+        }
+        w.write("  </graph>\n");
+        w.write("</graphml>\n");
+    }
+
+    /**
+     * Writes the graph as an edge list: one line per arc, with the labels
+     * of its two ends separated by a tab.
+     *
+     * @param w where to write it
+     */
+    public void writeEdgeList(Writer w) throws IOException {
+        boolean undirected = graph.isUndirected();
+        int n = graph.getNumVertices();
+        for (int i = 0; i < n; i++) {
+            String origin = String.valueOf(graph.vertexAt(i));
+            for (int k = 0; k < graph.outDegreeAt(i); k++) {
+                int target = graph.successorAt(i, k);
+                if (undirected && target < i) {
+                    continue; //already written from the other end
+                }
+                w.write(origin);
+                w.write('\t');
+                w.write(String.valueOf(graph.vertexAt(target)));
+                w.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes characters that have a meaning in XML as entities.
+     *
+     * @param w where to write
+     * @param s the text to write
+     */
+    private static void writeEscaped(Writer w, String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '&': w.write("&amp;"); break;
+                case '<': w.write("&lt;"); break;
+                case '>': w.write("&gt;"); break;
+                case '"': w.write("&quot;"); break;
+                case '\'': w.write("&apos;"); break;
+                default: w.write(c);
+            }
+        }
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of the graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) throws IOException {
+        try (Writer w = open(fileName)) {
+            writeTGF(w);
+        }
+    }
+
+    /**
+     * Creates a GraphML file with the vertices and arcs of the graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToGraphML(String fileName) throws IOException {
+        try (Writer w = open(fileName)) {
+            writeGraphML(w);
+        }
+    }
+
+    /**
+     * Creates an edge list file with the arcs of the graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToEdgeList(String fileName) throws IOException {
+        try (Writer w = open(fileName)) {
+            writeEdgeList(w);
+        }
+    }
+
+    /**
+     * Counts how many times a piece of text appears in another.
+     */
+    private static int count(String text, String piece) {
+        int count = 0;
+        for (int i = text.indexOf(piece); i >= 0; i = text.indexOf(piece, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        AdjListsGraph<String> baseline = new AdjListsGraph<String>();
+        for (int v = 0; v < 300; v++) {
+            baseline.addVertex("v" + v);
+        }
+        baseline.addVertex("<Tom & \"Jerry\">"); //needs escaping in GraphML
+        Random random = new Random(230);
+        for (int i = 0; i < 3000; i++) {
+            String v1 = "v" + random.nextInt(300);
+            String v2 = "v" + random.nextInt(300);
+            if (i % 3 == 0) {
+                baseline.addArc(v1, v2, random.nextInt(21) - 10);
+            } else {
+                baseline.addArc(v1, v2);
+            }
+        }
+        baseline.addArc("<Tom & \"Jerry\">", "v0");
+        GraphExporter<String> exporter = new GraphExporter<String>(baseline.freeze());
+
+        // reads the TGF back the plain way, a line at a time
+        StringWriter tgf = new StringWriter();
+        exporter.writeTGF(tgf);
+        Scanner lines = new Scanner(tgf.toString());
+        Map<String,String> labels = new HashMap<String,String>();
+        AdjListsGraph<String> read = new AdjListsGraph<String>();
+        String line = lines.nextLine();
+        while (!line.equals("#")) {
+            String[] parts = line.split(" ", 2);
+            labels.put(parts[0], parts[1]);
+            read.addVertex(parts[1]);
+            line = lines.nextLine();
+        }
+        while (lines.hasNextLine()) {
+            String[] parts = lines.nextLine().split(" ");
+            int weight = (parts.length > 2) ? Integer.parseInt(parts[2]) : 1;
+            read.addArc(labels.get(parts[0]), labels.get(parts[1]), weight);
+        }
+        System.out.println("Testing writeTGF() against AdjListsGraph:\t"
+            + GraphChecks.sameArcs(read, baseline, labels.values()));
+
+        StringWriter edges = new StringWriter();
+        exporter.writeEdgeList(edges);
+        Set<String> written = new HashSet<String>(Arrays.asList(edges.toString().split("\n")));
+        Set<String> arcs = new HashSet<String>();
+        for (String v : labels.values()) {
+            for (String w : baseline.getSuccessors(v)) {
+                arcs.add(v + "\t" + w);
+            }
+        }
+        System.out.println("Testing writeEdgeList() against AdjListsGraph:\t" + written.equals(arcs));
+
+        StringWriter graphML = new StringWriter();
+        exporter.writeGraphML(graphML);
+        String xml = graphML.toString();
+        int weighted = 0;
+        for (String v : labels.values()) {
+            for (String w : baseline.getSuccessors(v)) {
+                weighted += (baseline.getWeight(v, w) != 1) ? 1 : 0;
+            }
+        }
+        System.out.println("Testing writeGraphML() against AdjListsGraph:\t"
+            + (count(xml, "<node ") == baseline.getNumVertices() && count(xml, "<edge ") == baseline.getNumArcs()
+               && count(xml, "<data key=\"weight\">") == weighted && xml.contains("&lt;Tom &amp; &quot;Jerry&quot;&gt;")));
+
+        // an undirected graph has each edge written once
+        AdjListsGraph<String> undirected = new AdjListsGraph<String>();
+        for (int v = 0; v < 50; v++) {
+            undirected.addVertex("v" + v);
+        }
+        for (int i = 0; i < 200; i++) {
+            undirected.addEdge("v" + random.nextInt(50), "v" + random.nextInt(50));
+        }
+        int loops = 0;
+        for (int v = 0; v < 50; v++) {
+            loops += undirected.isArc("v" + v, "v" + v) ? 1 : 0;
+        }
+        StringWriter undirectedEdges = new StringWriter();
+        new GraphExporter<String>(undirected.freeze()).writeEdgeList(undirectedEdges);
+        System.out.println("Testing writeEdgeList() of an undirected graph:\t"
+            + (count(undirectedEdges.toString(), "\n") == (undirected.getNumArcs() + loops) / 2));
+    }
+}
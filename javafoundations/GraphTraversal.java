@@ -0,0 +1,363 @@
+/**
+ * Breadth-first and depth-first traversals over an IndexedGraph that run in
+ * O(V + E). Visited vertices are tracked in a bitset keyed by vertex index,
+ * and the queue and stack are plain int arrays, so a traversal allocates
+ * nothing once the engine has been made. Each vertex is handed to a
+ * GraphVisitor as soon as it is reached, and the visitor can prune the
+ * traversal below a vertex or stop it early.
+ *
+ * One engine can run any number of traversals over the same graph, but
+ * only one at a time.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+public class GraphTraversal<T> {
+    // instance variables
+    protected IndexedGraph<T> graph;
+    protected long[] visited; //bit i is set once the vertex with index i is reached
+    protected int[] vertices; //the queue for breadth-first, the stack for depth-first
+    protected int[] cursors; //depth-first only: next successor to try for each stack entry
+
+    /**
+     * Constructor for objects of class GraphTraversal
+     *
+     * @param graph the graph to traverse
+     */
+    public GraphTraversal(IndexedGraph<T> graph) {
+        this.graph = graph;
+        visited = new long[0];
+        vertices = new int[0];
+        cursors = new int[0];
+    }
+
+    /**
+     * Clears the visited bits, growing the scratch arrays if the graph has
+     * grown since the last traversal.
+     */
+    protected void reset() {
+        int n = graph.getNumVertices();
+        if (vertices.length < n) {
+            visited = new long[(n + 63) >>> 6];
+            vertices = new int[n];
+            cursors = new int[n];
+        } else {
+            Arrays.fill(visited, 0L);
+        }
+    }
+
+    /**
+     * Marks a vertex as visited.
+     *
+     * @param index the index of the vertex
+     * @return true if the vertex had not been visited before
+     */
+    protected boolean mark(int index) {
+        long bit = 1L << index;
+        if ((visited[index >>> 6] & bit) != 0) {
+            return false;
+        }
+        visited[index >>> 6] |= bit;
+        return true;
+    }
+
+    /**
+     * Checks whether the last traversal reached a vertex.
+     *
+     * @param index the index of the vertex
+     * @return true if the vertex was visited
+     */
+    public boolean isVisited(int index) {
+        return (visited[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Performs a breadth-first traversal beginning at the user-specified vertex.
+     *
+     * @param start the vertex to begin the traversal from
+     * @param visitor is given every vertex reached, in breadth-first order
+     * @return the number of vertices visited, 0 if start is not in the graph
+     */
+    public int breadthFirst(T start, GraphVisitor<T> visitor) {
+        return breadthFirst(graph.indexOf(start), visitor);
+    }
+
+    /**
+     * Performs a breadth-first traversal beginning at the vertex with the
+     * given index.
+     *
+     * @param start the index of the vertex to begin from, or -1
+     * @param visitor is given every vertex reached, in breadth-first order
+     * @return the number of vertices visited, 0 if start is -1
+     */
+    public int breadthFirst(int start, GraphVisitor<T> visitor) {
+        reset();
+        if (start < 0) {
+            return 0;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int depth = 0;
+        int levelEnd = 1; //the queue position where the next level begins
+
+        vertices[tail++] = start;
+        mark(start);
+        while (head < tail) {
+            if (head == levelEnd) {
+                depth++;
+                levelEnd = tail;
+            }
+            int current = vertices[head++];
+
+            int action = visitor.visit(graph.vertexAt(current), current, depth);
+            if (action == GraphVisitor.STOP) {
+                return head;
+            }
+            if (action == GraphVisitor.CONTINUE) {
+                int degree = graph.outDegreeAt(current);
+                for (int k = 0; k < degree; k++) {
+                    int next = graph.successorAt(current, k);
+                    if (mark(next)) {
+                        vertices[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        return head;
+    }
+
+    /**
+     * Performs a depth-first traversal beginning at the user-specified vertex.
+     * From each vertex it goes to the successors in the order the graph
+     * lists them.
+     *
+     * @param start the vertex to begin the traversal from
+     * @param visitor is given every vertex reached, in depth-first (pre)order
+     * @return the number of vertices visited, 0 if start is not in the graph
+     */
+    public int depthFirst(T start, GraphVisitor<T> visitor) {
+        return depthFirst(graph.indexOf(start), visitor);
+    }
+
+    /**
+     * Performs a depth-first traversal beginning at the vertex with the
+     * given index.
+     *
+     * @param start the index of the vertex to begin from, or -1
+     * @param visitor is given every vertex reached, in depth-first (pre)order
+     * @return the number of vertices visited, 0 if start is -1
+     */
+    public int depthFirst(int start, GraphVisitor<T> visitor) {
+        reset();
+        if (start < 0) {
+            return 0;
+        }
+
+        int count = 1;
+        int top = 0;
+
+        mark(start);
+        int action = visitor.visit(graph.vertexAt(start), start, 0);
+        if (action == GraphVisitor.STOP) {
+            return count;
+        }
+        if (action == GraphVisitor.CONTINUE) {
+            vertices[top] = start;
+            cursors[top] = 0;
+            top++;
+        }
+
+        while (top > 0) {
+            int current = vertices[top - 1];
+            int k = cursors[top - 1];
+            if (k == graph.outDegreeAt(current)) {
+                top--; //every successor has been tried
+                continue;
+            }
+            cursors[top - 1]++;
+
+            int next = graph.successorAt(current, k);
+            if (mark(next)) {
+                count++;
+                action = visitor.visit(graph.vertexAt(next), next, top);
+                if (action == GraphVisitor.STOP) {
+                    return count;
+                }
+                if (action == GraphVisitor.CONTINUE) {
+                    vertices[top] = next;
+                    cursors[top] = 0;
+                    top++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the hop distance from the user-specified vertex to every vertex
+     * in one breadth-first pass.
+     *
+     * @param start the vertex to measure from
+     * @return an array keyed by vertex index, holding the number of arcs on a
+     * shortest path from start, or -1 for vertices start cannot reach
+     */
+    public int[] distances(T start) {
+        int[] dist = new int[graph.getNumVertices()];
+        distances(graph.indexOf(start), dist);
+        return dist;
+    }
+
+    /**
+     * Finds the hop distance from the vertex with the given index to every
+     * vertex in one breadth-first pass, writing into a caller-supplied array
+     * so that repeated calls allocate nothing.
+     *
+     * @param start the index of the vertex to measure from, or -1
+     * @param dist filled in with the distance of every vertex, keyed by
+     * index, or -1 for vertices start cannot reach. Must have room for
+     * getNumVertices() entries.
+     * @return the eccentricity of start (its largest finite distance), or -1
+     * if start is -1
+     */
+    public int distances(int start, int[] dist) {
+        int n = graph.getNumVertices();
+        Arrays.fill(dist, 0, n, -1);
+        if (start < 0) {
+            return -1;
+        }
+        if (vertices.length < n) {
+            reset();
+        }
+
+        int head = 0;
+        int tail = 0;
+        vertices[tail++] = start;
+        dist[start] = 0;
+        while (head < tail) {
+            int current = vertices[head++];
+            int next = dist[current] + 1;
+            int degree = graph.outDegreeAt(current);
+            for (int k = 0; k < degree; k++) {
+                int successor = graph.successorAt(current, k);
+                if (dist[successor] == -1) {
+                    dist[successor] = next;
+                    vertices[tail++] = successor;
+                }
+            }
+        }
+
+        return dist[vertices[tail - 1]]; //the last vertex dequeued is the farthest
+    }
+
+    /**
+     * Performs a breadth-first traversal and collects the vertices it visits.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> BFtraversal(T v) {
+        final LinkedList<T> path = new LinkedList<T>();
+        breadthFirst(v, new GraphVisitor<T>() {
+                public int visit(T vertex, int index, int depth) {
+                    path.add(vertex);
+                    return CONTINUE;
+                }
+            });
+        return path;
+    }
+
+    /**
+     * Performs a depth-first traversal and collects the vertices it visits.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> DFtraversal(T v) {
+        final LinkedList<T> results = new LinkedList<T>();
+        depthFirst(v, new GraphVisitor<T>() {
+                public int visit(T vertex, int index, int depth) {
+                    results.add(vertex);
+                    return CONTINUE;
+                }
+            });
+        return results;
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 800; v++) {
+            baseline.addVertex(v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 1600; i++) {
+            baseline.addArc(random.nextInt(800), random.nextInt(800)); //sparse, so not everything is reached
+        }
+        final CSRGraph<Integer> g = baseline.freeze();
+        GraphTraversal<Integer> traversal = new GraphTraversal<Integer>(g);
+
+        boolean sameDistances = true;
+        boolean sameDepths = true;
+        boolean depthFirstReaches = true;
+        for (int start = 0; start < 800; start += 40) {
+            final Map<Integer,Integer> expected = GraphChecks.plainDistances(baseline, start);
+            int[] dist = traversal.distances(Integer.valueOf(start));
+            for (int i = 0; i < dist.length; i++) {
+                Integer d = expected.get(g.vertexAt(i));
+                sameDistances = sameDistances && dist[i] == (d == null ? -1 : d);
+            }
+
+            final int[] wrong = new int[1];
+            int visited = traversal.breadthFirst(Integer.valueOf(start), new GraphVisitor<Integer>() {
+                    public int visit(Integer vertex, int index, int depth) {
+                        if (expected.get(vertex) != depth) {
+                            wrong[0]++;
+                        }
+                        return CONTINUE;
+                    }
+                });
+            sameDepths = sameDepths && wrong[0] == 0 && visited == expected.size();
+
+            // every vertex a depth-first traversal reaches after the first has
+            // a predecessor it reached earlier
+            LinkedList<Integer> order = traversal.DFtraversal(start);
+            Set<Integer> earlier = new HashSet<Integer>();
+            for (Integer v : order) {
+                boolean linked = earlier.isEmpty();
+                for (Integer p : baseline.getPredecessors(v)) {
+                    linked = linked || earlier.contains(p);
+                }
+                depthFirstReaches = depthFirstReaches && linked;
+                earlier.add(v);
+            }
+            depthFirstReaches = depthFirstReaches && earlier.equals(expected.keySet());
+        }
+        System.out.println("Testing distances() against a plain BFS over AdjListsGraph:\t" + sameDistances);
+        System.out.println("Testing breadthFirst() depths against a plain BFS over AdjListsGraph:\t" + sameDepths);
+        System.out.println("Testing DFtraversal() reaches what AdjListsGraph does:\t" + depthFirstReaches);
+
+        final Map<Integer,Integer> expected = GraphChecks.plainDistances(baseline, 0);
+        int near = 0;
+        for (int d : expected.values()) {
+            near += (d <= 2) ? 1 : 0;
+        }
+        int pruned = traversal.breadthFirst(Integer.valueOf(0), new GraphVisitor<Integer>() {
+                public int visit(Integer vertex, int index, int depth) {
+                    return (depth == 2) ? PRUNE : CONTINUE;
+                }
+            });
+        int stopped = traversal.depthFirst(Integer.valueOf(0), new GraphVisitor<Integer>() {
+                public int visit(Integer vertex, int index, int depth) {
+                    return (vertex == 0) ? CONTINUE : STOP;
+                }
+            });
+        System.out.println("Testing PRUNE at depth 2 and STOP at the second vertex:\t"
+            + (pruned == near && stopped == Math.min(2, expected.size())));
+    }
+}
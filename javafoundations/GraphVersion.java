@@ -0,0 +1,500 @@
+/**
+ * One published version of a VersionedGraph: an immutable, read-only graph
+ * that stays exactly as it was published while the writer goes on
+ * changing the graph. Get one with VersionedGraph.pin() and close() it
+ * when done, so it can be reclaimed once it has been replaced; it works
+ * with try-with-resources. Every pin() hands out its own GraphVersion, a
+ * handle sharing everything with the published one, so closing a handle
+ * twice only gives up that reader's pin once.
+ *
+ * Only successors are stored, so getPredecessors and getInDegree scan
+ * every row. Versions are unweighted: VersionedGraph has no way to give an
+ * arc a weight, so getWeight and weightAt report 1 for every arc, and a
+ * weighted graph copied into a VersionedGraph loses its weights. Any
+ * method that would change the graph throws an
+ * UnsupportedOperationException.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.io.*;
+
+public class GraphVersion<T> implements IndexedGraph<T>, AutoCloseable {
+    // instance variables
+    protected final VersionedGraph<T> owner;
+    protected final long epoch;
+    protected final int numVertices;
+    protected final int numArcs;
+    protected final Object[][] labels; //shared with the writer, read only below numVertices
+    // a row holds its degree, then its sorted successors; null means none
+    protected final int[][][] rows;
+    // how many readers have this version pinned, shared by every handle;
+    // -1 once the version has been reclaimed
+    protected final AtomicInteger pins;
+    private final AtomicBoolean closed; //true once this handle has been closed
+
+    /**
+     * Constructor for objects of class GraphVersion. Made by
+     * VersionedGraph.publish().
+     *
+     * @param owner the graph this is a version of
+     * @param epoch the epoch number of this version
+     * @param numVertices the number of vertices in this version
+     * @param numArcs the number of arcs in this version
+     * @param labels the chunks of vertex labels
+     * @param rows the chunks of successor rows
+     */
+    GraphVersion(VersionedGraph<T> owner, long epoch, int numVertices, int numArcs,
+                 Object[][] labels, int[][][] rows) {
+        this.owner = owner;
+        this.epoch = epoch;
+        this.numVertices = numVertices;
+        this.numArcs = numArcs;
+        this.labels = labels;
+        this.rows = rows;
+        pins = new AtomicInteger(0);
+        closed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Constructor for a reader's handle on a published version. Made by
+     * VersionedGraph.pin().
+     *
+     * @param version the published version
+     */
+    private GraphVersion(GraphVersion<T> version) {
+        owner = version.owner;
+        epoch = version.epoch;
+        numVertices = version.numVertices;
+        numArcs = version.numArcs;
+        labels = version.labels;
+        rows = version.rows;
+        pins = version.pins;
+        closed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Adds a reader, unless the version has already been reclaimed.
+     *
+     * @return the reader's own handle on the version, or null if it was
+     * already reclaimed
+     */
+    GraphVersion<T> tryPin() {
+        while (true) {
+            int count = pins.get();
+            if (count < 0) {
+                return null;
+            }
+            if (pins.compareAndSet(count, count + 1)) {
+                return new GraphVersion<T>(this);
+            }
+        }
+    }
+
+    /**
+     * Marks the version reclaimed, if no reader has it pinned.
+     *
+     * @return true if it was reclaimed
+     */
+    boolean tryReclaim() {
+        return pins.compareAndSet(0, -1);
+    }
+
+    /**
+     * Releases this reader's pin on the version. Closing the same handle
+     * again does nothing.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            pins.decrementAndGet();
+            owner.released(this);
+        }
+    }
+
+    /**
+     * Checks the epoch of this version.
+     *
+     * @return the epoch number, counting the versions published before it
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the row of a vertex.
+     *
+     * @param index the index of the vertex
+     * @return its row, or null if it has no successors
+     */
+    private int[] rowAt(int index) {
+        return rows[index >>> VersionedGraph.CHUNK_BITS][index & (VersionedGraph.CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Looks up the index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in this version
+     */
+    public int indexOf(T v) {
+        Integer index = owner.ids.get(v);
+        //vertices added after this version was published have higher indices
+        return (index == null || index >= numVertices) ? -1 : index;
+    }
+
+    /**
+     * Gets the vertex stored at an index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public T vertexAt(int index) {
+        @SuppressWarnings("unchecked")
+        T v = (T) labels[index >>> VersionedGraph.CHUNK_BITS][index & (VersionedGraph.CHUNK_SIZE - 1)];
+        return v;
+    }
+
+    /**
+     * Checks the number of successors of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @return its out-degree
+     */
+    public int outDegreeAt(int index) {
+        int[] row = rowAt(index);
+        return (row == null) ? 0 : row[0];
+    }
+
+    /**
+     * Gets one successor of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which successor, from 0 to outDegreeAt(index) - 1
+     * @return the index of the successor
+     */
+    public int successorAt(int index, int k) {
+        return rowAt(index)[k + 1];
+    }
+
+    /**
+     * Gets the weight of one arc of the vertex at an index. The arcs here
+     * carry no weights, so it is always 1.
+     *
+     * @param index the index of the vertex
+     * @param k which arc, from 0 to outDegreeAt(index) - 1
+     * @return 1
+     */
+    public int weightAt(int index, int k) {
+        return 1;
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        return numArcs;
+    }
+
+    /**
+     * Determines whether there is an arc between two vertex indices, using
+     * a binary search over the origin's sorted row.
+     *
+     * @param origin the index of the origin vertex
+     * @param destination the index of the destination vertex
+     * @return true if the arc exists
+     */
+    protected boolean hasArc(int origin, int destination) {
+        int[] row = rowAt(origin);
+        return row != null && Arrays.binarySearch(row, 1, row[0] + 1, destination) >= 0;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(T v1, T v2) {
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        if (origin == -1 || destination == -1) {
+            return false;
+        }
+        return hasArc(origin, destination);
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return 1 if there is such an arc, since arcs here carry no weights, or 0
+     */
+    public int getWeight(T v1, T v2) {
+        return isArc(v1, v2) ? 1 : 0;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(T v1, T v2) {
+        return (isArc(v1, v2) && isArc(v2, v1));
+    }
+
+    /**
+     * Determines whether the graph is undirected.
+     *
+     * @returns boolean indicating whether the graph is undirected
+     */
+    public boolean isUndirected() {
+        for (int i = 0; i < numVertices; i++) {
+            for (int k = 0; k < outDegreeAt(i); k++) {
+                if (!hasArc(successorAt(i, k), i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertex(T v) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeVertex(T v) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2, int weight) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertices(Collection<T> vertices) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArcs(int[] from, int[] to) {
+        throw new UnsupportedOperationException("A GraphVersion cannot be changed.");
+    }
+
+    /**
+     * Versions never grow, so there is nothing to do.
+     *
+     * @param numVertices ignored
+     * @param numArcs ignored
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<T> getSuccessors(T v) {
+        LinkedList<T> successors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = 0; k < outDegreeAt(index); k++) {
+                successors.add(vertexAt(successorAt(index, k)));
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v. Scans every
+     * row, since versions only store successors.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<T> getPredecessors(T v) {
+        LinkedList<T> predecessors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int i = 0; i < numVertices; i++) {
+                if (hasArc(i, index)) {
+                    predecessors.add(vertexAt(i));
+                }
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Checks how many arcs end at vertex v. Scans every row, since versions
+     * only store successors.
+     *
+     * @return the number of predecessors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(T v) {
+        int index = indexOf(v);
+        int count = 0;
+        if (index != -1) {
+            for (int i = 0; i < numVertices; i++) {
+                if (hasArc(i, index)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     *
+     * @return the number of successors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : outDegreeAt(index);
+    }
+
+    /**
+     * Performs a breadth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> BFtraversal(T v) {
+        return new GraphTraversal<T>(this).BFtraversal(v);
+    }
+
+    /**
+     * Performs a depth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> DFtraversal(T v) {
+        return new GraphTraversal<T>(this).DFtraversal(v);
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of this version.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        try {
+            new GraphExporter<T>(this).saveToTGF(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the version
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Epoch " + epoch + "\nVertices:\n[");
+        for (int i = 0; i < numVertices; i++) {
+            result.append((i == 0 ? "" : ", ") + vertexAt(i));
+        }
+        result.append("]\nEdges:\n");
+        for (int i = 0; i < numVertices; i++) {
+            result.append("from " + vertexAt(i) + ":\t" + getSuccessors(vertexAt(i)) + "\n");
+        }
+        return result.toString();
+    }
+}
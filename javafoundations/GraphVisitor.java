@@ -0,0 +1,35 @@
+/**
+ * GraphVisitor.java
+ * Defines the callback that GraphTraversal hands each vertex to, in the
+ * order the traversal reaches them. The value it returns tells the
+ * traversal whether to go on past the vertex, skip its successors, or stop.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+
+package javafoundations;
+
+public interface GraphVisitor<T>
+{
+    /** Keep going, including the successors of this vertex. */
+    public static final int CONTINUE = 0;
+
+    /** Keep going, but do not go on to the successors of this vertex. */
+    public static final int PRUNE = 1;
+
+    /** End the traversal right away. */
+    public static final int STOP = 2;
+
+    /**
+     * Called once for every vertex the traversal reaches.
+     *
+     * @param the vertex that was reached
+     * @param the index of that vertex
+     * @param how many arcs away from the start vertex it was reached
+     * (its hop distance for a breadth-first traversal, its depth in the
+     * traversal tree for a depth-first one)
+     * @return CONTINUE, PRUNE or STOP
+     */
+    public int visit(T vertex, int index, int depth);
+}
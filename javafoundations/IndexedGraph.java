@@ -0,0 +1,60 @@
+/**
+ * IndexedGraph.java
+ * Defines a graph whose vertices are numbered 0 ... getNumVertices() - 1,
+ * and whose successors can be read one index at a time without building
+ * a list. The traversal engine (GraphTraversal) works on any IndexedGraph.
+ * weightAt reads the weight of each of those arcs the same way, so
+ * walking a weighted graph allocates nothing either.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+
+package javafoundations;
+
+public interface IndexedGraph<T> extends Graph<T>
+{
+    /**
+     * Returns the index of the given vertex.
+     *
+     * @param A vertex in the graph.
+     * @return the index of the vertex, or -1 if it is not in the graph
+     */
+    public int indexOf(T vertex);
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param an index from 0 to getNumVertices() - 1
+     * @return the vertex with that index
+     */
+    public T vertexAt(int index);
+
+    /**
+     * Returns the number of successors of the vertex with the given index.
+     *
+     * @param an index from 0 to getNumVertices() - 1
+     * @return the number of arcs leaving that vertex
+     */
+    public int outDegreeAt(int index);
+
+    /**
+     * Returns the index of one successor of the vertex with the given index.
+     *
+     * @param an index from 0 to getNumVertices() - 1
+     * @param which successor to return, from 0 to outDegreeAt(index) - 1
+     * @return the index of that successor
+     */
+    public int successorAt(int index, int k);
+
+    /**
+     * Returns the weight of the arc to one successor of the vertex with the
+     * given index.
+     *
+     * @param an index from 0 to getNumVertices() - 1
+     * @param which successor, from 0 to outDegreeAt(index) - 1
+     * @return the weight of the arc to successorAt(index, k), 1 if the arc
+     * has no weight of its own
+     */
+    public int weightAt(int index, int k);
+}
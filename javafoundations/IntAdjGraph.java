@@ -0,0 +1,796 @@
+/**
+ * An adjacency list graph whose vertices are ints. Each vertex keeps its
+ * successors in a growable int[] of vertex indices, so neither vertices nor
+ * arcs are boxed: an arc costs 4 bytes (plus spare capacity) instead of a
+ * LinkedList node and an Integer. Arc weights, once any arc is given one,
+ * are kept the same way: a second int[] per vertex, parallel to its row.
+ *
+ * A row longer than SCAN_LIMIT also gets a hash index from successor to
+ * its place in the row, built the first time the row is searched, so
+ * checking for an arc (which addArc does before every add) takes O(1)
+ * instead of a scan of the row. Anything that moves arcs around in a row
+ * throws its index away, to be built again when next needed.
+ *
+ * Only in-degrees are kept for the reverse direction, so getPredecessors
+ * scans every row; use an AdjListsGraph or a CSRGraph when predecessor
+ * lists are needed often.
+ *
+ * The Graph methods take Integers so this class can be used anywhere a
+ * Graph<Integer> is expected; the int overloads avoid boxing altogether.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+
+public class IntAdjGraph implements IndexedGraph<Integer> {
+    static final int SCAN_LIMIT = 8; //longest row searched without an index
+
+    // instance variables
+    protected int[] vertices; //key = vertex index, value = vertex
+    protected int[][] arcs; //key = vertex index, value = indices of its successors
+    protected int[] degrees; //how many slots of each arcs row are in use
+    protected int[][] weights; //key = vertex index, value = weights parallel to its arcs row; null while all are 1
+    protected int[] inDegrees; //key = vertex index, value = number of arcs into it
+    protected IntIndexMap[] positions; //key = vertex index, value = successor index -> place in its row; null until needed
+    protected IntIndexMap indices; //key = vertex, value = vertex index
+    protected int numVertices;
+    protected int numArcs;
+    protected int rowCapacity; //how many successors a new vertex has room for
+
+    /**
+     * Constructor for objects of class IntAdjGraph
+     */
+    public IntAdjGraph() {
+        this(16);
+    }
+
+    /**
+     * Constructor for objects of class IntAdjGraph that leaves room for a
+     * number of vertices before any array has to grow.
+     *
+     * @param expectedVertices how many vertices the graph is expected to hold
+     */
+    public IntAdjGraph(int expectedVertices) {
+        int capacity = Math.max(expectedVertices, 1);
+        vertices = new int[capacity];
+        arcs = new int[capacity][];
+        degrees = new int[capacity];
+        inDegrees = new int[capacity];
+        positions = new IntIndexMap[capacity];
+        indices = new IntIndexMap(capacity);
+        numVertices = 0;
+        numArcs = 0;
+        rowCapacity = 2;
+    }
+
+    /**
+     * Looks up the index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in the graph
+     */
+    public int indexOf(int v) {
+        return indices.get(v);
+    }
+
+    /**
+     * Looks up the index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in the graph
+     */
+    public int indexOf(Integer v) {
+        return indices.get(v.intValue());
+    }
+
+    /**
+     * Gets the vertex stored at an index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public int getVertex(int index) {
+        return vertices[index];
+    }
+
+    /**
+     * Gets the vertex stored at an index, boxed for the IndexedGraph interface.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public Integer vertexAt(int index) {
+        return vertices[index];
+    }
+
+    /**
+     * Checks how many successors the vertex at an index has.
+     *
+     * @param index the index of the vertex
+     * @return the number of arcs leaving that vertex
+     */
+    public int outDegreeAt(int index) {
+        return degrees[index];
+    }
+
+    /**
+     * Gets one successor of the vertex at an index, without boxing it.
+     *
+     * @param index the index of the vertex
+     * @param k which successor to get, from 0 to outDegreeAt(index) - 1
+     * @return the index of the k-th successor
+     */
+    public int successorAt(int index, int k) {
+        return arcs[index][k];
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        return numArcs;
+    }
+
+    /**
+     * Finds where a successor sits in the origin's row.
+     *
+     * @param origin the index of the origin vertex
+     * @param destination the index of the destination vertex
+     * @return the position of destination in arcs[origin], or -1
+     */
+    private int find(int origin, int destination) {
+        int[] row = arcs[origin];
+        if (degrees[origin] <= SCAN_LIMIT) {
+            for (int k = 0; k < degrees[origin]; k++) {
+                if (row[k] == destination) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+        if (positions[origin] == null) {
+            IntIndexMap index = new IntIndexMap(degrees[origin] * 2);
+            for (int k = 0; k < degrees[origin]; k++) {
+                index.put(row[k], k);
+            }
+            positions[origin] = index;
+        }
+        return positions[origin].get(destination);
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(int v1, int v2) {
+        int origin = indices.get(v1);
+        int destination = indices.get(v2);
+        if (origin == -1 || destination == -1) {
+            return false;
+        }
+        return find(origin, destination) != -1;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(Integer v1, Integer v2) {
+        return isArc(v1.intValue(), v2.intValue());
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(Integer v1, Integer v2) {
+        return (isArc(v1.intValue(), v2.intValue()) && isArc(v2.intValue(), v1.intValue()));
+    }
+
+    /**
+     * Determines whether the graph is undirected.
+     *
+     * @returns boolean indicating whether the graph is undirected
+     */
+    public boolean isUndirected() {
+        for (int i = 0; i < numVertices; i++) {
+            for (int k = 0; k < degrees[i]; k++) {
+                if (find(arcs[i][k], i) == -1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a vertex to the graph
+     *
+     * @param v the vertex to be added
+     */
+    public void addVertex(int v) {
+        if (indices.get(v) == -1) {
+            if (numVertices == vertices.length) {
+                int capacity = vertices.length * 2;
+                vertices = Arrays.copyOf(vertices, capacity);
+                arcs = Arrays.copyOf(arcs, capacity);
+                degrees = Arrays.copyOf(degrees, capacity);
+                inDegrees = Arrays.copyOf(inDegrees, capacity);
+                positions = Arrays.copyOf(positions, capacity);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, capacity);
+                }
+            }
+            vertices[numVertices] = v;
+            arcs[numVertices] = new int[rowCapacity];
+            if (weights != null) {
+                weights[numVertices] = new int[rowCapacity];
+            }
+            degrees[numVertices] = 0;
+            inDegrees[numVertices] = 0;
+            positions[numVertices] = null;
+            indices.put(v, numVertices);
+            numVertices++;
+        }
+    }
+
+    /**
+     * Adds a vertex to the graph
+     *
+     * @param v the vertex to be added
+     */
+    public void addVertex(Integer v) {
+        addVertex(v.intValue());
+    }
+
+    /**
+     * Adds a collection of vertices to the graph, growing the storage once
+     * for all of them
+     *
+     * @param newVertices the vertices to be added
+     */
+    public void addVertices(Collection<Integer> newVertices) {
+        ensureCapacity(numVertices + newVertices.size(), 0);
+        for (Integer v : newVertices) {
+            addVertex(v.intValue());
+        }
+    }
+
+    /**
+     * Grows the storage ahead of a batch of additions: the per-vertex
+     * arrays and the index map to numVertices, and the rows of vertices
+     * added from now on to the average degree numArcs / numVertices, so
+     * they do not have to double their way up to it.
+     *
+     * @param numVertices how many vertices the graph is expected to hold
+     * @param numArcs how many arcs the graph is expected to hold
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+        if (numVertices > vertices.length) {
+            vertices = Arrays.copyOf(vertices, numVertices);
+            arcs = Arrays.copyOf(arcs, numVertices);
+            degrees = Arrays.copyOf(degrees, numVertices);
+            inDegrees = Arrays.copyOf(inDegrees, numVertices);
+            positions = Arrays.copyOf(positions, numVertices);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, numVertices);
+            }
+        }
+        indices.ensureCapacity(numVertices);
+        if (numVertices > 0) {
+            rowCapacity = Math.max(2, (int) Math.min(1 << 16, (long) numArcs / numVertices));
+        }
+    }
+
+    /**
+     * Removes a vertex from the graph. Every vertex after it moves down
+     * one index, so this walks all the arcs once.
+     *
+     * @param v the vertex to be removed
+     */
+    public void removeVertex(int v) {
+        int index = indices.get(v);
+        if (index == -1) {
+            System.out.println("Tried to remove vertex that doesn't exist.");
+            return;
+        }
+
+        numArcs -= degrees[index];
+        for (int k = 0; k < degrees[index]; k++) {
+            inDegrees[arcs[index][k]]--;
+        }
+        System.arraycopy(vertices, index + 1, vertices, index, numVertices - index - 1);
+        System.arraycopy(arcs, index + 1, arcs, index, numVertices - index - 1);
+        System.arraycopy(degrees, index + 1, degrees, index, numVertices - index - 1);
+        System.arraycopy(inDegrees, index + 1, inDegrees, index, numVertices - index - 1);
+        if (weights != null) {
+            System.arraycopy(weights, index + 1, weights, index, numVertices - index - 1);
+        }
+        numVertices--;
+        arcs[numVertices] = null;
+        Arrays.fill(positions, 0, numVertices + 1, null); //every row is renumbered below
+        if (weights != null) {
+            weights[numVertices] = null;
+        }
+
+        indices.clear();
+        for (int i = 0; i < numVertices; i++) {
+            indices.put(vertices[i], i);
+            // drop arcs into the removed vertex and renumber the ones past it
+            int[] row = arcs[i];
+            int kept = 0;
+            for (int k = 0; k < degrees[i]; k++) {
+                if (row[k] != index) {
+                    if (weights != null) {
+                        weights[i][kept] = weights[i][k];
+                    }
+                    row[kept++] = (row[k] > index) ? row[k] - 1 : row[k];
+                }
+            }
+            numArcs -= degrees[i] - kept;
+            degrees[i] = kept;
+        }
+    }
+
+    /**
+     * Removes a vertex from the graph
+     *
+     * @param v the vertex to be removed
+     */
+    public void removeVertex(Integer v) {
+        removeVertex(v.intValue());
+    }
+
+    /**
+     * Adds an arc between two vertices
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void addArc(int v1, int v2) {
+        int origin = indices.get(v1);
+        int destination = indices.get(v2);
+        // checks that both vertices exist
+        if (origin != -1 && destination != -1) {
+            // checks if the vertices are already connected in the specified direction
+            if (find(origin, destination) == -1) {
+                append(origin, destination, 1);
+            }
+        } else {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+        }
+    }
+
+    /**
+     * Adds an arc with a weight between two vertices, or changes the
+     * weight of the arc if it is already there
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @param weight the weight of the arc
+     */
+    public void addArc(int v1, int v2, int weight) {
+        int origin = indices.get(v1);
+        int destination = indices.get(v2);
+        // checks that both vertices exist
+        if (origin != -1 && destination != -1) {
+            int k = find(origin, destination);
+            if (k == -1) {
+                append(origin, destination, weight);
+            } else if (weights != null || weight != 1) {
+                startWeights();
+                weights[origin][k] = weight;
+            }
+        } else {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+        }
+    }
+
+    /**
+     * Adds an arc with a weight between two vertices, or changes the
+     * weight of the arc if it is already there
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @param weight the weight of the arc
+     */
+    public void addArc(Integer v1, Integer v2, int weight) {
+        addArc(v1.intValue(), v2.intValue(), weight);
+    }
+
+    /**
+     * Appends an arc to the origin's row, growing the row if it is full.
+     *
+     * @param origin the index of the origin vertex
+     * @param destination the index of the destination vertex
+     * @param weight the weight of the arc
+     */
+    private void append(int origin, int destination, int weight) {
+        if (weight != 1) {
+            startWeights();
+        }
+        if (degrees[origin] == arcs[origin].length) {
+            arcs[origin] = Arrays.copyOf(arcs[origin], Math.max(2, arcs[origin].length * 2));
+            if (weights != null) {
+                weights[origin] = Arrays.copyOf(weights[origin], arcs[origin].length);
+            }
+        }
+        if (weights != null) {
+            weights[origin][degrees[origin]] = weight;
+        }
+        if (positions[origin] != null) {
+            positions[origin].put(destination, degrees[origin]);
+        }
+        arcs[origin][degrees[origin]++] = destination;
+        inDegrees[destination]++;
+        numArcs++;
+    }
+
+    /**
+     * Makes the weight rows, the first time an arc is given a weight other
+     * than 1. Every arc so far gets weight 1.
+     */
+    private void startWeights() {
+        if (weights == null) {
+            weights = new int[arcs.length][];
+            for (int i = 0; i < numVertices; i++) {
+                weights[i] = new int[arcs[i].length];
+                Arrays.fill(weights[i], 1);
+            }
+        }
+    }
+
+    /**
+     * Gets the weight of one arc of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which arc, from 0 to outDegreeAt(index) - 1
+     * @return the weight of the arc to successorAt(index, k)
+     */
+    public int weightAt(int index, int k) {
+        return (weights == null) ? 1 : weights[index][k];
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return the weight of the arc, 1 if it was added without a weight,
+     * or 0 if there is no such arc
+     */
+    public int getWeight(int v1, int v2) {
+        int origin = indices.get(v1);
+        int destination = indices.get(v2);
+        if (origin == -1 || destination == -1) {
+            return 0;
+        }
+        int k = find(origin, destination);
+        return (k == -1) ? 0 : weightAt(origin, k);
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return the weight of the arc, 1 if it was added without a weight,
+     * or 0 if there is no such arc
+     */
+    public int getWeight(Integer v1, Integer v2) {
+        return getWeight(v1.intValue(), v2.intValue());
+    }
+
+    /**
+     * Adds an arc between two vertices
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void addArc(Integer v1, Integer v2) {
+        addArc(v1.intValue(), v2.intValue());
+    }
+
+    /**
+     * Adds a batch of arcs given by vertex index, from from[i] to to[i].
+     * The indices are checked once for the whole batch, and no vertex has
+     * to be looked up in the index map.
+     *
+     * @param from the indices of the origin vertices
+     * @param to the indices of the destination vertices
+     */
+    public void addArcs(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length.");
+        }
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] < 0 || from[i] >= numVertices || to[i] < 0 || to[i] >= numVertices) {
+                System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+                return;
+            }
+        }
+
+        for (int i = 0; i < from.length; i++) {
+            if (find(from[i], to[i]) == -1) {
+                append(from[i], to[i], 1);
+            }
+        }
+    }
+
+    /**
+     * Adds a batch of arcs given by vertex index, from from[i] to to[i],
+     * that are known to be new: none of them is in the graph yet, and no
+     * two of them are the same, as in the rows of a CSRGraph being copied
+     * in. Nothing is checked for duplicates, and every row grows at most
+     * once, so this is O(V + E) however the arcs are spread. Adding an arc
+     * that is already there this way leaves it in the graph twice.
+     *
+     * @param from the indices of the origin vertices
+     * @param to the indices of the destination vertices
+     */
+    public void appendArcs(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length.");
+        }
+        int[] added = new int[numVertices]; //key = vertex index, value = arcs it is about to get
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] < 0 || from[i] >= numVertices || to[i] < 0 || to[i] >= numVertices) {
+                System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+                return;
+            }
+            added[from[i]]++;
+        }
+
+        for (int i = 0; i < numVertices; i++) {
+            if (degrees[i] + added[i] > arcs[i].length) {
+                arcs[i] = Arrays.copyOf(arcs[i], degrees[i] + added[i]);
+                if (weights != null) {
+                    weights[i] = Arrays.copyOf(weights[i], arcs[i].length);
+                }
+            }
+        }
+        for (int i = 0; i < from.length; i++) {
+            append(from[i], to[i], 1);
+        }
+    }
+
+    /**
+     * Removes an arc between two vertices
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void removeArc(int v1, int v2) {
+        int origin = indices.get(v1);
+        int destination = indices.get(v2);
+        // checks that both vertices exist
+        if (origin != -1 && destination != -1) {
+            int k = find(origin, destination);
+            if (k != -1) {
+                // keeps the order of the remaining successors
+                System.arraycopy(arcs[origin], k + 1, arcs[origin], k, degrees[origin] - k - 1);
+                if (weights != null) {
+                    System.arraycopy(weights[origin], k + 1, weights[origin], k, degrees[origin] - k - 1);
+                }
+                degrees[origin]--;
+                inDegrees[destination]--;
+                numArcs--;
+                positions[origin] = null; //the arcs after k moved
+            }
+        } else {
+            System.out.println("Tried to remove edge from one or more vertex that doesn't exist.");
+        }
+    }
+
+    /**
+     * Removes an arc between two vertices
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     */
+    public void removeArc(Integer v1, Integer v2) {
+        removeArc(v1.intValue(), v2.intValue());
+    }
+
+    /**
+     * Adds an edge between two vertices
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void addEdge(Integer v1, Integer v2) {
+        addArc(v1.intValue(), v2.intValue());
+        addArc(v2.intValue(), v1.intValue());
+    }
+
+    /**
+     * Removes an edge between two vertices
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public void removeEdge(Integer v1, Integer v2) {
+        removeArc(v1.intValue(), v2.intValue());
+        removeArc(v2.intValue(), v1.intValue());
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<Integer> getSuccessors(Integer v) {
+        LinkedList<Integer> successors = new LinkedList<Integer>();
+        int index = indices.get(v);
+        if (index != -1) {
+            for (int k = 0; k < degrees[index]; k++) {
+                successors.add(vertices[arcs[index][k]]);
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<Integer> getPredecessors(Integer v) {
+        LinkedList<Integer> predecessors = new LinkedList<Integer>();
+        int index = indices.get(v);
+        if (index != -1) {
+            for (int i = 0; i < numVertices; i++) {
+                if (find(i, index) != -1) {
+                    predecessors.add(vertices[i]);
+                }
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Checks how many arcs end at vertex v.
+     *
+     * @return the number of predecessors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(Integer v) {
+        int index = indices.get(v);
+        return (index == -1) ? 0 : inDegrees[index];
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     *
+     * @return the number of successors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(Integer v) {
+        int index = indices.get(v);
+        return (index == -1) ? 0 : degrees[index];
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of this graph. An arc
+     * with a weight other than 1 has its weight written after it, as the
+     * arc's label.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        try {
+            PrintWriter w = new PrintWriter(new BufferedWriter(new FileWriter(fileName)));
+            for (int i = 0; i < numVertices; i++) {
+                w.println((i + 1) + " " + vertices[i]);
+            }
+            w.print("#");
+            for (int i = 0; i < numVertices; i++) {
+                for (int k = 0; k < degrees[i]; k++) {
+                    w.print("\n" + (i + 1) + " " + (arcs[i][k] + 1));
+                    if (weightAt(i, k) != 1) {
+                        w.print(" " + weightAt(i, k));
+                    }
+                }
+            }
+            w.println();
+            w.close(); //for tidiness!
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the graph
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Vertices:\n[");
+        for (int i = 0; i < numVertices; i++) {
+            result.append((i == 0 ? "" : ", ") + vertices[i]);
+        }
+        result.append("]\nEdges:\n");
+        for (int i = 0; i < numVertices; i++) {
+            result.append("from " + vertices[i] + ":\t" + getSuccessors(vertices[i]) + "\n");
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) {
+        IntAdjGraph g = new IntAdjGraph();
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 300; v++) {
+            g.addVertex(v * 10); //the vertices are not their indices
+            baseline.addVertex(v * 10);
+        }
+
+        Random random = new Random(230);
+        for (int i = 0; i < 6000; i++) {
+            int v1 = (i % 5 == 0) ? 0 : random.nextInt(300) * 10; //vertex 0 is a hub
+            int v2 = random.nextInt(300) * 10;
+            if (i % 3 == 0) {
+                g.addArc(v1, v2, 1 + random.nextInt(5));
+                baseline.addArc(v1, v2, g.getWeight(v1, v2));
+            } else {
+                g.addArc(v1, v2);
+                baseline.addArc(v1, v2);
+            }
+        }
+        System.out.println("Testing addArc() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+        System.out.println("Testing isUndirected() against AdjListsGraph:\t" + (g.isUndirected() == baseline.isUndirected()));
+
+        for (int v = 0; v < 3000; v += 30) {
+            g.removeArc(0, v);
+            baseline.removeArc(0, v);
+        }
+        for (int v = 10; v < 3000; v += 370) {
+            g.removeVertex(v);
+            baseline.removeVertex(v);
+        }
+        System.out.println("Testing removeArc() and removeVertex() against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+
+        for (int i = 0; i < 1000; i++) {
+            int v1 = g.getVertex(random.nextInt(g.getNumVertices()));
+            int v2 = g.getVertex(random.nextInt(g.getNumVertices()));
+            g.addEdge(v1, v2);
+            baseline.addEdge(v1, v2);
+        }
+        System.out.println("Testing addEdge() after removals against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+    }
+}
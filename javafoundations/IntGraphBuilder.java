@@ -9,6 +9,9 @@
  * Purpose: a simple example on how to use the GraphBuilder abstarct class,
  * to create a graph of Strings, reading its vertices and arcs from a TGF file
  * 
+ * The graph it builds is an IntAdjGraph, which stores the vertices as
+ * primitive ints instead of boxed Integers.
+ * 
  */
 package javafoundations;
 
@@ -23,4 +26,30 @@ public class IntGraphBuilder extends GraphBuilder<Integer>{
     public Integer createOneThing(String s) {
         return new Integer(s); 
     }
+
+    /**
+     * Creates the empty graph that build() fills in: an IntAdjGraph,
+     * so no vertex or arc is boxed.
+     * 
+     * @return a new, empty IntAdjGraph
+     * */
+    Graph<Integer> createGraph() {
+        return new IntAdjGraph();
+    }
+
+    /**
+     * Adds a batch of arcs that are known to be new, without checking
+     * each one for a duplicate first.
+     * 
+     * @param g the graph to add the arcs to
+     * @param from the index of the origin of each arc
+     * @param to the index of the destination of each arc
+     * */
+    void addNewArcs(Graph<Integer> g, int[] from, int[] to) {
+        if (g instanceof IntAdjGraph) {
+            ((IntAdjGraph) g).appendArcs(from, to);
+        } else {
+            super.addNewArcs(g, from, to);
+        }
+    }
 }
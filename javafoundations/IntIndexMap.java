@@ -0,0 +1,166 @@
+/**
+ * A small open-addressing hash map from int keys to int values, used to find
+ * the index of an int vertex without boxing it. Missing keys map to -1.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.Arrays;
+
+class IntIndexMap {
+    // instance variables
+    private int[] keys;
+    private int[] values; //-1 marks an empty slot
+    private int size;
+
+    /**
+     * Constructor for objects of class IntIndexMap
+     *
+     * @param expected how many keys the map should hold before it grows
+     */
+    IntIndexMap(int expected) {
+        int capacity = 16;
+        while (capacity < expected * 2) {
+            capacity *= 2; //the table is kept at most half full
+        }
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, -1);
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential keys do not cluster.
+     *
+     * @param key the key to hash
+     * @return the first slot to probe for key
+     */
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Gets the value stored for a key.
+     *
+     * @param key the key to look up
+     * @return the value for key, or -1 if key is not in the map
+     */
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key); values[i] != -1; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores a value for a key, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value, which must not be negative
+     */
+    void put(int key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int i = slot(key);
+        while (values[i] != -1) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    /**
+     * Removes a key from the map.
+     *
+     * @param key the key to remove
+     * @return the value it had, or -1 if it was not in the map
+     */
+    int remove(int key) {
+        int mask = keys.length - 1;
+        int i = slot(key);
+        while (values[i] != -1 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == -1) {
+            return -1;
+        }
+        int value = values[i];
+        // moves later keys of the probe run back, so no lookup stops early
+        // at the slot being emptied
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == -1) {
+                break;
+            }
+            int home = slot(keys[j]);
+            boolean staysPut = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (!staysPut) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = -1;
+        size--;
+        return value;
+    }
+
+    /**
+     * Grows the table, if needed, so it can hold a number of keys without
+     * growing again.
+     *
+     * @param expected how many keys the map should be able to hold
+     */
+    void ensureCapacity(int expected) {
+        while (keys.length < expected * 2) {
+            grow();
+        }
+    }
+
+    /**
+     * Removes every key from the map.
+     */
+    void clear() {
+        Arrays.fill(values, -1);
+        size = 0;
+    }
+
+    /**
+     * Checks the number of keys in the map.
+     *
+     * @return the number of keys
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the table and re-inserts every key.
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(values, -1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != -1) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
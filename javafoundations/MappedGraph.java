@@ -0,0 +1,683 @@
+/**
+ * A read-only graph kept in a memory-mapped file instead of on the Java
+ * heap. The file holds the same compressed sparse row arrays as a
+ * CSRGraph (offsets and targets, plus the transpose), the vertex labels
+ * as UTF-8 bytes, and the vertex indices sorted by label, so a vertex is
+ * found by a binary search over the file rather than through a Hashtable.
+ *
+ * Opening a MappedGraph only maps the file (FileChannel.map); pages are
+ * read in by the operating system the first time they are touched, so it
+ * opens in about the same time whatever the size of the graph, and the
+ * heap only ever holds the few objects a method returns. Files are made
+ * with MappedGraph.write.
+ *
+ * Each section of the file is mapped on its own, so it must be under 2GB:
+ * at most about 500 million arcs and 2GB of label text.
+ *
+ * The file keeps no arc weights, so every arc of a MappedGraph has
+ * weight 1. Any method that would change the graph throws an
+ * UnsupportedOperationException.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+public class MappedGraph implements IndexedGraph<String> {
+    private static final int MAGIC = 0x43535247; //"CSRG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    // instance variables
+    protected final int numVertices;
+    protected final int numArcs;
+    protected final IntBuffer offsets; //where each vertex's successors start in targets
+    protected final IntBuffer targets; //successor indices, grouped by origin vertex, sorted
+    protected final IntBuffer inOffsets; //where each vertex's predecessors start in sources
+    protected final IntBuffer sources; //predecessor indices, grouped by destination vertex
+    protected final IntBuffer labelOffsets; //where each vertex's label starts in labelBytes
+    protected final IntBuffer sortedIds; //vertex indices in order of their labels' bytes
+    protected final ByteBuffer labelBytes; //every label in UTF-8, in index order
+
+    /**
+     * Constructor for objects of class MappedGraph. Maps a file made by
+     * MappedGraph.write.
+     *
+     * @param fileName the file to map
+     * @throws IOException if the file cannot be read or is not a graph file
+     */
+    public MappedGraph(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+                throw new IOException(fileName + " is not a mapped graph file.");
+            }
+            numVertices = header.getInt(8);
+            numArcs = header.getInt(12);
+            long numLabelBytes = header.getLong(16);
+
+            // the mappings stay valid after the channel is closed
+            FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+            long position = HEADER_BYTES;
+            offsets = mapInts(channel, mode, position, numVertices + 1);
+            position += 4L * (numVertices + 1);
+            targets = mapInts(channel, mode, position, numArcs);
+            position += 4L * numArcs;
+            inOffsets = mapInts(channel, mode, position, numVertices + 1);
+            position += 4L * (numVertices + 1);
+            sources = mapInts(channel, mode, position, numArcs);
+            position += 4L * numArcs;
+            labelOffsets = mapInts(channel, mode, position, numVertices + 1);
+            position += 4L * (numVertices + 1);
+            sortedIds = mapInts(channel, mode, position, numVertices);
+            position += 4L * numVertices;
+            labelBytes = channel.map(mode, position, numLabelBytes);
+        }
+    }
+
+    /**
+     * Maps one section of ints.
+     *
+     * @param channel the open file
+     * @param mode whether the section is only read, or also written
+     * @param position where the section starts
+     * @param count how many ints it holds
+     * @return a view of the section
+     */
+    private static IntBuffer mapInts(FileChannel channel, FileChannel.MapMode mode, long position, int count) throws IOException {
+        return channel.map(mode, position, 4L * count).asIntBuffer();
+    }
+
+    /**
+     * Writes a graph to a file that MappedGraph can map. Vertices keep their
+     * indices, and each vertex's label is its toString(). Each section of
+     * the file is mapped and filled in place, a row at a time, so the heap
+     * never holds more than a few arrays with one entry per vertex.
+     *
+     * @param graph the graph to write
+     * @param fileName the file to write to
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if two vertices have the same label,
+     * since then indexOf could not tell them apart
+     */
+    public static void write(IndexedGraph<?> graph, String fileName) throws IOException {
+        int n = graph.getNumVertices();
+        byte[][] labels = new byte[n][];
+        long numLabelBytes = 0;
+        for (int i = 0; i < n; i++) {
+            labels[i] = String.valueOf(graph.vertexAt(i)).getBytes(StandardCharsets.UTF_8);
+            numLabelBytes += labels[i].length;
+        }
+        if (numLabelBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The labels take more than 2GB.");
+        }
+        int[] sorted = sortByLabel(labels); //before the file is made, since it may throw
+
+        int[] offsets = new int[n + 1];
+        long numArcs = 0;
+        int maxDegree = 0;
+        for (int i = 0; i < n; i++) {
+            int degree = graph.outDegreeAt(i);
+            numArcs += degree;
+            maxDegree = Math.max(maxDegree, degree);
+            if (4 * numArcs > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The arcs take more than 2GB.");
+            }
+            offsets[i + 1] = (int) numArcs;
+        }
+        int m = offsets[n];
+
+        FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.map(mode, 0, HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).putInt(n).putInt(m).putLong(numLabelBytes);
+            long position = HEADER_BYTES;
+            mapInts(channel, mode, position, n + 1).put(offsets);
+            position += 4L * (n + 1);
+
+            // sorted rows, as CSRGraph keeps them, counting each vertex's predecessors on the way
+            IntBuffer targets = mapInts(channel, mode, position, m);
+            position += 4L * m;
+            int[] row = new int[maxDegree];
+            int[] inOffsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                int degree = offsets[i + 1] - offsets[i];
+                for (int k = 0; k < degree; k++) {
+                    row[k] = graph.successorAt(i, k);
+                    inOffsets[row[k] + 1]++;
+                }
+                Arrays.sort(row, 0, degree);
+                targets.put(row, 0, degree);
+            }
+            for (int i = 0; i < n; i++) {
+                inOffsets[i + 1] += inOffsets[i];
+            }
+            mapInts(channel, mode, position, n + 1).put(inOffsets);
+            position += 4L * (n + 1);
+
+            // the transpose, each arc dropped into its destination's row
+            IntBuffer sources = mapInts(channel, mode, position, m);
+            position += 4L * m;
+            int[] fill = Arrays.copyOf(inOffsets, n);
+            for (int i = 0; i < n; i++) {
+                for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                    sources.put(fill[targets.get(k)]++, i);
+                }
+            }
+
+            IntBuffer labelOffsets = mapInts(channel, mode, position, n + 1);
+            position += 4L * (n + 1);
+            int labelPosition = 0;
+            for (int i = 0; i < n; i++) {
+                labelOffsets.put(labelPosition);
+                labelPosition += labels[i].length;
+            }
+            labelOffsets.put(labelPosition);
+            mapInts(channel, mode, position, n).put(sorted);
+            position += 4L * n;
+            ByteBuffer labelBytes = channel.map(mode, position, numLabelBytes);
+            for (int i = 0; i < n; i++) {
+                labelBytes.put(labels[i]);
+            }
+        }
+    }
+
+    /**
+     * Sorts the vertex indices by their labels' bytes, with a merge sort
+     * over plain ints so that no index is boxed, and checks that no two
+     * labels are the same.
+     *
+     * @param labels key = vertex index, value = its label in UTF-8
+     * @return the vertex indices in order of their labels
+     * @throws IllegalArgumentException if two labels are the same
+     */
+    private static int[] sortByLabel(byte[][] labels) {
+        int n = labels.length;
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        int[] merged = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int middle = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int a = low;
+                int b = middle;
+                for (int k = low; k < high; k++) {
+                    if (b == high || (a < middle && compare(labels[ids[a]], labels[ids[b]]) <= 0)) {
+                        merged[k] = ids[a++];
+                    } else {
+                        merged[k] = ids[b++];
+                    }
+                }
+            }
+            int[] swap = ids;
+            ids = merged;
+            merged = swap;
+        }
+        for (int i = 1; i < n; i++) {
+            if (compare(labels[ids[i - 1]], labels[ids[i]]) == 0) {
+                throw new IllegalArgumentException("More than one vertex has the label \""
+                    + new String(labels[ids[i]], StandardCharsets.UTF_8) + "\", so a MappedGraph could not tell them apart.");
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Compares two labels byte by byte, as unsigned bytes.
+     *
+     * @return negative, zero or positive as a is before, equal to or after b
+     */
+    private static int compare(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return (a[i] & 0xFF) - (b[i] & 0xFF);
+            }
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * Compares a label to the label of a vertex in the file, without
+     * decoding the stored one.
+     *
+     * @param label a label in UTF-8
+     * @param index the index of the stored vertex
+     * @return negative, zero or positive as label is before, equal to or after it
+     */
+    private int compareTo(byte[] label, int index) {
+        int start = labelOffsets.get(index);
+        int length = labelOffsets.get(index + 1) - start;
+        int common = Math.min(label.length, length);
+        for (int i = 0; i < common; i++) {
+            byte stored = labelBytes.get(start + i);
+            if (label[i] != stored) {
+                return (label[i] & 0xFF) - (stored & 0xFF);
+            }
+        }
+        return label.length - length;
+    }
+
+    /**
+     * Looks up the index of a vertex with a binary search over the labels.
+     *
+     * @param v the vertex to look up
+     * @return the index of v, or -1 if v is not in the graph
+     */
+    public int indexOf(String v) {
+        if (v == null) {
+            return -1;
+        }
+        byte[] label = v.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = numVertices - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = sortedIds.get(middle);
+            int order = compareTo(label, index);
+            if (order == 0) {
+                return index;
+            } else if (order < 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the vertex stored at an index, decoding its label from the file.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public String vertexAt(int index) {
+        int start = labelOffsets.get(index);
+        byte[] label = new byte[labelOffsets.get(index + 1) - start];
+        for (int i = 0; i < label.length; i++) {
+            label[i] = labelBytes.get(start + i);
+        }
+        return new String(label, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks the number of successors of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @return its out-degree
+     */
+    public int outDegreeAt(int index) {
+        return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    /**
+     * Gets one successor of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which successor, from 0 to outDegreeAt(index) - 1
+     * @return the index of the successor
+     */
+    public int successorAt(int index, int k) {
+        return targets.get(offsets.get(index) + k);
+    }
+
+    /**
+     * Gets the weight of one arc of the vertex at an index. The arcs here
+     * carry no weights, so it is always 1.
+     *
+     * @param index the index of the vertex
+     * @param k which arc, from 0 to outDegreeAt(index) - 1
+     * @return 1
+     */
+    public int weightAt(int index, int k) {
+        return 1;
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        return numArcs;
+    }
+
+    /**
+     * Determines whether there is an arc between two vertex indices, using
+     * a binary search over the origin's sorted row.
+     *
+     * @param origin the index of the origin vertex
+     * @param destination the index of the destination vertex
+     * @return true if the arc exists
+     */
+    protected boolean hasArc(int origin, int destination) {
+        int low = offsets.get(origin);
+        int high = offsets.get(origin + 1) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int target = targets.get(middle);
+            if (target == destination) {
+                return true;
+            } else if (target > destination) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(String v1, String v2) {
+        int origin = indexOf(v1);
+        int destination = indexOf(v2);
+        if (origin == -1 || destination == -1) {
+            return false;
+        }
+        return hasArc(origin, destination);
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return 1 if there is such an arc, since arcs here carry no weights, or 0
+     */
+    public int getWeight(String v1, String v2) {
+        return isArc(v1, v2) ? 1 : 0;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(String v1, String v2) {
+        return (isArc(v1, v2) && isArc(v2, v1));
+    }
+
+    /**
+     * Determines whether the graph is undirected.
+     *
+     * @returns boolean indicating whether the graph is undirected
+     */
+    public boolean isUndirected() {
+        for (int i = 0; i < numVertices; i++) {
+            for (int k = offsets.get(i); k < offsets.get(i + 1); k++) {
+                if (!hasArc(targets.get(k), i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertex(String v) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeVertex(String v) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(String v1, String v2) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(String v1, String v2, int weight) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeArc(String v1, String v2) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addEdge(String v1, String v2) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeEdge(String v1, String v2) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertices(Collection<String> vertices) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArcs(int[] from, int[] to) {
+        throw new UnsupportedOperationException("A MappedGraph cannot be changed.");
+    }
+
+    /**
+     * Mapped graphs never grow, so there is nothing to do.
+     *
+     * @param numVertices ignored
+     * @param numArcs ignored
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<String> getSuccessors(String v) {
+        LinkedList<String> successors = new LinkedList<String>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = offsets.get(index); k < offsets.get(index + 1); k++) {
+                successors.add(vertexAt(targets.get(k)));
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<String> getPredecessors(String v) {
+        LinkedList<String> predecessors = new LinkedList<String>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = inOffsets.get(index); k < inOffsets.get(index + 1); k++) {
+                predecessors.add(vertexAt(sources.get(k)));
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Checks how many arcs end at vertex v.
+     *
+     * @return the number of predecessors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(String v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : inOffsets.get(index + 1) - inOffsets.get(index);
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     *
+     * @return the number of successors of v, or 0 if v is not in the graph
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(String v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : outDegreeAt(index);
+    }
+
+    /**
+     * Performs a breadth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<String> BFtraversal(String v) {
+        return new GraphTraversal<String>(this).BFtraversal(v);
+    }
+
+    /**
+     * Performs a depth-first traversal of the graph, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<String> DFtraversal(String v) {
+        return new GraphTraversal<String>(this).DFtraversal(v);
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of this graph.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        try {
+            new GraphExporter<String>(this).saveToTGF(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method. Decodes every label, so it is only meant
+     * for small graphs.
+     *
+     * @return a string representation of the graph
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Vertices:\n[");
+        for (int i = 0; i < numVertices; i++) {
+            result.append((i == 0 ? "" : ", ") + vertexAt(i));
+        }
+        result.append("]\nEdges:\n");
+        for (int i = 0; i < numVertices; i++) {
+            result.append("from " + vertexAt(i) + ":\t" + getSuccessors(vertexAt(i)) + "\n");
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        AdjListsGraph<String> baseline = new AdjListsGraph<String>();
+        for (int v = 0; v < 500; v++) {
+            baseline.addVertex("vertex " + (v * 7919 % 500)); //not in label order
+        }
+        baseline.addVertex("\u00e9t\u00e9"); //a label that is more than one byte per character
+        Random random = new Random(230);
+        for (int i = 0; i < 6000; i++) {
+            baseline.addArc("vertex " + random.nextInt(500), "vertex " + random.nextInt(500));
+        }
+        baseline.addEdge("\u00e9t\u00e9", "vertex 0");
+
+        File file = File.createTempFile("MappedGraph", ".csr");
+        file.deleteOnExit();
+        write(baseline.freeze(), file.getPath());
+        MappedGraph g = new MappedGraph(file.getPath());
+        System.out.println("Testing write() and open against AdjListsGraph:\t" + GraphChecks.sameArcs(g, baseline));
+        System.out.println("Testing indexOf() with a missing vertex:\t" + (g.indexOf("vertex 500") == -1));
+        System.out.println("Testing isUndirected() against AdjListsGraph:\t" + (g.isUndirected() == baseline.isUndirected()));
+
+        AdjListsGraph<Object> twins = new AdjListsGraph<Object>();
+        twins.addVertex("1");
+        twins.addVertex(1); //a different vertex with the same label
+        try {
+            write(twins.freeze(), file.getPath());
+            System.out.println("Testing write() with two vertices labelled 1:\tfalse");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Testing write() with two vertices labelled 1:\ttrue");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Runs up to 64 breadth-first searches at once over a CSR snapshot
+ * (Then et al., "The More the Merrier: Efficient Multi-Source Graph
+ * Traversal", 2014). Every vertex keeps one long for each of "seen",
+ * "frontier" and "next", and bit i of those longs belongs to the i-th
+ * source of the batch, so one pass over an arc advances all 64 searches
+ * that have reached its origin. Searches that share most of their paths,
+ * as on small-world graphs, share nearly all of the memory traffic. Each
+ * level only visits the vertices some search has just reached, kept in a
+ * list, rather than scanning every vertex for a set bit.
+ *
+ * For each source it gives the eccentricity and, optionally, the sum of
+ * the distances to the vertices it reaches (for closeness), without ever
+ * storing a distance array per source.
+ *
+ * One MultiSourceBFS can be reused for any number of batches, but only by
+ * one thread at a time.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+public class MultiSourceBFS<T> {
+    public static final int BATCH_SIZE = 64; //one bit of a long per source
+
+    // instance variables
+    protected CSRGraph<T> graph;
+    protected long[] seen; //bit i of seen[v] is set once source i has reached v
+    protected long[] frontier; //bit i of frontier[v] is set if v is on source i's current level
+    protected long[] next; //the same for the level being built
+    protected int[] frontierVertices; //the vertices whose frontier is not 0, so a level never scans the rest
+    protected int[] nextVertices; //the vertices whose next is not 0
+
+    /**
+     * Constructor for objects of class MultiSourceBFS
+     *
+     * @param graph the snapshot to search
+     */
+    public MultiSourceBFS(CSRGraph<T> graph) {
+        this.graph = graph;
+        int n = graph.getNumVertices();
+        seen = new long[n];
+        frontier = new long[n];
+        next = new long[n];
+        frontierVertices = new int[n];
+        nextVertices = new int[n];
+    }
+
+    /**
+     * Searches from a batch of up to 64 sources at once.
+     *
+     * @param sources the indices of the sources
+     * @param from the position in sources of the first source of the batch
+     * @param count how many sources are in the batch, at most BATCH_SIZE
+     * @param eccentricities where the eccentricity of sources[from + i] is
+     * written, at position from + i
+     * @param distanceSums where the sum of the distances from sources[from + i]
+     * to every vertex it reaches is written, at position from + i; may be null
+     * @throws IllegalArgumentException if count is more than BATCH_SIZE, as
+     * the bits of a long would run out
+     */
+    public void searchBatch(int[] sources, int from, int count, int[] eccentricities, long[] distanceSums) {
+        if (count < 0 || count > BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch has from 0 to " + BATCH_SIZE + " sources, not " + count + ".");
+        }
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+        Arrays.fill(seen, 0L);
+        Arrays.fill(frontier, 0L);
+
+        int numFrontier = 0;
+        for (int i = 0; i < count; i++) {
+            int source = sources[from + i];
+            long bit = 1L << i;
+            if (frontier[source] == 0) {
+                frontierVertices[numFrontier++] = source;
+            }
+            seen[source] |= bit;
+            frontier[source] |= bit;
+            eccentricities[from + i] = 0;
+            if (distanceSums != null) {
+                distanceSums[from + i] = 0;
+            }
+        }
+
+        int level = 0;
+        while (numFrontier > 0) {
+            level++;
+            // pushes every frontier vertex's searches along its arcs
+            int numNext = 0;
+            for (int f = 0; f < numFrontier; f++) {
+                int v = frontierVertices[f];
+                long bits = frontier[v];
+                frontier[v] = 0L;
+                for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                    int target = targets[k];
+                    if (next[target] == 0) {
+                        nextVertices[numNext++] = target;
+                    }
+                    next[target] |= bits;
+                }
+            }
+
+            // keeps only the searches that reach a vertex for the first time
+            numFrontier = 0;
+            long reached = 0L;
+            for (int f = 0; f < numNext; f++) {
+                int v = nextVertices[f];
+                long fresh = next[v] & ~seen[v];
+                next[v] = 0L;
+                if (fresh != 0) {
+                    frontier[v] = fresh;
+                    frontierVertices[numFrontier++] = v;
+                    seen[v] |= fresh;
+                    reached |= fresh;
+                    if (distanceSums != null) {
+                        for (long rest = fresh; rest != 0; rest &= rest - 1) {
+                            distanceSums[from + Long.numberOfTrailingZeros(rest)] += level;
+                        }
+                    }
+                }
+            }
+
+            // every search that reached something on this level has at least
+            // this eccentricity
+            for (long rest = reached; rest != 0; rest &= rest - 1) {
+                eccentricities[from + Long.numberOfTrailingZeros(rest)] = level;
+            }
+        }
+    }
+
+    /**
+     * Searches from every source, BATCH_SIZE sources at a time.
+     *
+     * @param sources the indices of the sources
+     * @param eccentricities filled in with the eccentricity of each source
+     * @param distanceSums filled in with each source's sum of distances to
+     * the vertices it reaches; may be null
+     */
+    public void search(int[] sources, int[] eccentricities, long[] distanceSums) {
+        for (int from = 0; from < sources.length; from += BATCH_SIZE) {
+            searchBatch(sources, from, Math.min(BATCH_SIZE, sources.length - from), eccentricities, distanceSums);
+        }
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 1000; v++) {
+            baseline.addVertex(v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 2500; i++) {
+            baseline.addArc(random.nextInt(1000), random.nextInt(1000)); //sparse, so some vertices are not reached
+        }
+        CSRGraph<Integer> g = baseline.freeze();
+
+        int[] sources = new int[g.getNumVertices() + 10];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i % g.getNumVertices(); //some sources are searched twice
+        }
+        int[] eccentricities = new int[sources.length];
+        long[] distanceSums = new long[sources.length];
+        new MultiSourceBFS<Integer>(g).search(sources, eccentricities, distanceSums);
+
+        boolean same = true;
+        for (int i = 0; i < sources.length; i++) {
+            int eccentricity = 0;
+            long sum = 0;
+            for (int distance : GraphChecks.plainDistances(baseline, g.vertexAt(sources[i])).values()) {
+                eccentricity = Math.max(eccentricity, distance);
+                sum += distance;
+            }
+            same = same && eccentricities[i] == eccentricity && distanceSums[i] == sum;
+        }
+        System.out.println("Testing search() against a plain BFS over AdjListsGraph:\t" + same);
+
+        try {
+            new MultiSourceBFS<Integer>(g).searchBatch(sources, 0, BATCH_SIZE + 1, eccentricities, null);
+            System.out.println("Testing searchBatch() with 65 sources:\tfalse");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Testing searchBatch() with 65 sources:\ttrue");
+        }
+    }
+}
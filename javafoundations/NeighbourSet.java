@@ -0,0 +1,422 @@
+/**
+ * The set of neighbour indices of one vertex, stored in whichever form
+ * suits its size. Most vertices have only a few neighbours, and those are
+ * kept as a sorted int array searched with a binary search: compact, and
+ * O(log d) to look up. A hub with more than MAX_SORTED neighbours, where
+ * inserting into a sorted array would mean shifting much of it, is
+ * promoted to an open-addressing hash set with O(1) lookups and inserts.
+ * If removals shrink it well below that size again it goes back to being
+ * a sorted array.
+ *
+ * Each neighbour can also have an int weight, the weight of the arc to it,
+ * kept in a second array parallel to the first. Until some neighbour is
+ * given a weight other than 1 there is no second array, and every weight
+ * is 1.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+class NeighbourSet {
+    static final int MAX_SORTED = 32; //largest set kept as a sorted array
+
+    // instance variables
+    private int[] items; //sorted members while small; a hash table (-1 = empty slot) once hashed
+    private int[] weights; //key = position in items, value = weight of that member; null while all are 1
+    private int size;
+    private boolean hashed;
+
+    /**
+     * Constructor for objects of class NeighbourSet
+     */
+    NeighbourSet() {
+        items = new int[2];
+        size = 0;
+        hashed = false;
+    }
+
+    /**
+     * Spreads the bits of an index so that sequential indices do not cluster.
+     *
+     * @param value the index to hash
+     * @return the first slot to probe for value
+     */
+    private int slot(int value) {
+        int h = value * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (items.length - 1);
+    }
+
+    /**
+     * Finds the slot holding a value in the hash table.
+     *
+     * @param value the value to find
+     * @return its slot, or -1 if it is not in the table
+     */
+    private int find(int value) {
+        int mask = items.length - 1;
+        for (int i = slot(value); items[i] != -1; i = (i + 1) & mask) {
+            if (items[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds where a value is stored, whichever form the set is in.
+     *
+     * @param value the value to find
+     * @return its position in items, or a negative number if it is not there
+     */
+    private int position(int value) {
+        return hashed ? find(value) : Arrays.binarySearch(items, 0, size, value);
+    }
+
+    /**
+     * Sets the weight stored at a position of items, making the weights
+     * array the first time a weight other than 1 is stored.
+     *
+     * @param i the position in items
+     * @param weight the weight to store
+     */
+    private void setWeight(int i, int weight) {
+        if (weights == null) {
+            if (weight == 1) {
+                return;
+            }
+            weights = new int[items.length];
+            Arrays.fill(weights, 1);
+        }
+        weights[i] = weight;
+    }
+
+    /**
+     * Checks whether an index is in the set.
+     *
+     * @param value the index to look for
+     * @return true if it is in the set
+     */
+    boolean contains(int value) {
+        return position(value) >= 0;
+    }
+
+    /**
+     * Gets the weight of an index in the set.
+     *
+     * @param value the index to look for
+     * @return its weight, or 0 if it is not in the set
+     */
+    int weightOf(int value) {
+        int i = position(value);
+        if (i < 0) {
+            return 0;
+        }
+        return (weights == null) ? 1 : weights[i];
+    }
+
+    /**
+     * Checks whether any member has a weight other than 1.
+     *
+     * @return true if the set keeps weights
+     */
+    boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Adds an index to the set with weight 1, if it is not already there.
+     *
+     * @param value the index to add, which must not be negative
+     * @return true if it was added, false if it was already there
+     */
+    boolean add(int value) {
+        return insert(value, 1, false);
+    }
+
+    /**
+     * Adds an index to the set with a weight, or changes its weight if it
+     * is already there.
+     *
+     * @param value the index to add, which must not be negative
+     * @param weight its weight
+     * @return true if it was added, false if it was already there
+     */
+    boolean put(int value, int weight) {
+        return insert(value, weight, true);
+    }
+
+    /**
+     * Adds an index to the set.
+     *
+     * @param value the index to add, which must not be negative
+     * @param weight its weight
+     * @param replace whether to change the weight of an index already there
+     * @return true if it was added, false if it was already there
+     */
+    private boolean insert(int value, int weight, boolean replace) {
+        if (hashed) {
+            if ((size + 1) * 2 > items.length) {
+                rehash(items.length * 2);
+            }
+            int mask = items.length - 1;
+            int i = slot(value);
+            while (items[i] != -1) {
+                if (items[i] == value) {
+                    if (replace) {
+                        setWeight(i, weight);
+                    }
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            items[i] = value;
+            setWeight(i, weight);
+            size++;
+            return true;
+        }
+
+        int k = Arrays.binarySearch(items, 0, size, value);
+        if (k >= 0) {
+            if (replace) {
+                setWeight(k, weight);
+            }
+            return false;
+        }
+        if (size == MAX_SORTED) {
+            rehash(4 * MAX_SORTED); //promotes the set to a hash table
+            return insert(value, weight, replace);
+        }
+        k = -k - 1; //where value belongs
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, items.length);
+            }
+        }
+        System.arraycopy(items, k, items, k + 1, size - k);
+        if (weights != null) {
+            System.arraycopy(weights, k, weights, k + 1, size - k);
+        }
+        items[k] = value;
+        setWeight(k, weight);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an index from the set.
+     *
+     * @param value the index to remove
+     * @return true if it was in the set
+     */
+    boolean remove(int value) {
+        if (!hashed) {
+            int k = Arrays.binarySearch(items, 0, size, value);
+            if (k < 0) {
+                return false;
+            }
+            System.arraycopy(items, k + 1, items, k, size - k - 1);
+            if (weights != null) {
+                System.arraycopy(weights, k + 1, weights, k, size - k - 1);
+            }
+            size--;
+            return true;
+        }
+
+        int i = find(value);
+        if (i == -1) {
+            return false;
+        }
+        // moves later members of the probe run back, so no lookup stops
+        // early at the slot being emptied
+        int mask = items.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (items[j] == -1) {
+                break;
+            }
+            int home = slot(items[j]);
+            boolean staysPut = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (!staysPut) {
+                items[i] = items[j];
+                if (weights != null) {
+                    weights[i] = weights[j];
+                }
+                i = j;
+            }
+        }
+        items[i] = -1;
+        size--;
+        if (size < MAX_SORTED / 2) {
+            unhash();
+        }
+        return true;
+    }
+
+    /**
+     * Checks the number of indices in the set.
+     *
+     * @return the number of indices
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copies the members of the set into a new array, in no set order.
+     *
+     * @return the members
+     */
+    int[] toArray() {
+        if (!hashed) {
+            return Arrays.copyOf(items, size);
+        }
+        int[] members = new int[size];
+        int count = 0;
+        for (int value : items) {
+            if (value != -1) {
+                members[count++] = value;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Copies the weights of the members into a new array, in the same
+     * order toArray() gives the members.
+     *
+     * @return the weights, or null if every weight is 1
+     */
+    int[] weightsToArray() {
+        if (weights == null) {
+            return null;
+        }
+        if (!hashed) {
+            return Arrays.copyOf(weights, size);
+        }
+        int[] memberWeights = new int[size];
+        int count = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != -1) {
+                memberWeights[count++] = weights[i];
+            }
+        }
+        return memberWeights;
+    }
+
+    /**
+     * Makes a copy of this set with every index renumbered, keeping the
+     * weights.
+     *
+     * @param newIndex key = old index, value = new index
+     * @return the renumbered set
+     */
+    NeighbourSet renumbered(int[] newIndex) {
+        int[] members = toArray();
+        int[] memberWeights = weightsToArray();
+        NeighbourSet copy = new NeighbourSet();
+        for (int m = 0; m < members.length; m++) {
+            copy.put(newIndex[members[m]], (memberWeights == null) ? 1 : memberWeights[m]);
+        }
+        return copy;
+    }
+
+    /**
+     * Moves the members into a hash table of a given capacity.
+     *
+     * @param capacity the number of slots, a power of two
+     */
+    private void rehash(int capacity) {
+        int[] members = toArray();
+        int[] memberWeights = weightsToArray();
+        items = new int[capacity];
+        Arrays.fill(items, -1);
+        weights = (memberWeights == null) ? null : new int[capacity];
+        hashed = true;
+        size = 0;
+        for (int m = 0; m < members.length; m++) {
+            insert(members[m], (memberWeights == null) ? 1 : memberWeights[m], true);
+        }
+    }
+
+    /**
+     * Turns the hash table back into a sorted array.
+     */
+    private void unhash() {
+        int[] members = toArray();
+        int[] memberWeights = weightsToArray();
+        CSRGraph.sortRow(members, memberWeights, 0, members.length);
+        items = Arrays.copyOf(members, MAX_SORTED);
+        weights = (memberWeights == null) ? null : Arrays.copyOf(memberWeights, MAX_SORTED);
+        hashed = false;
+    }
+
+    /**
+     * Checks that a set holds exactly the keys of a map, with their weights.
+     */
+    private static boolean sameAs(NeighbourSet set, TreeMap<Integer,Integer> expected) {
+        int[] members = set.toArray();
+        int[] memberWeights = set.weightsToArray();
+        if (members.length != expected.size() || set.size() != expected.size()) {
+            return false;
+        }
+        for (int m = 0; m < members.length; m++) {
+            Integer weight = expected.get(members[m]);
+            if (weight == null || weight != ((memberWeights == null) ? 1 : memberWeights[m])
+                || !set.contains(members[m]) || set.weightOf(members[m]) != weight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        // grows the set well past MAX_SORTED and shrinks it back, checking it against a TreeMap
+        NeighbourSet set = new NeighbourSet();
+        TreeMap<Integer,Integer> expected = new TreeMap<Integer,Integer>();
+        Random random = new Random(230);
+        boolean same = true;
+        boolean wasHashed = false;
+        boolean sortedAgain = false;
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(200);
+            int step = i % 1000;
+            if (step < 500 ? random.nextInt(4) != 0 : random.nextInt(20) == 0) { //mostly adds, then mostly removes
+                if (i % 3 == 0) {
+                    int weight = random.nextInt(21) - 10;
+                    same = same && set.put(value, weight) == !expected.containsKey(value);
+                    expected.put(value, weight);
+                } else {
+                    same = same && set.add(value) == !expected.containsKey(value);
+                    if (!expected.containsKey(value)) {
+                        expected.put(value, 1);
+                    }
+                }
+            } else {
+                same = same && set.remove(value) == (expected.remove(value) != null);
+            }
+            same = same && set.contains(value) == expected.containsKey(value)
+                && set.weightOf(value) == (expected.containsKey(value) ? expected.get(value) : 0);
+            sortedAgain = sortedAgain || (wasHashed && !set.hashed);
+            wasHashed = wasHashed || set.hashed;
+            if (step == 499 || step == 999) {
+                same = same && sameAs(set, expected);
+            }
+        }
+        System.out.println("Testing add(), put() and remove() against TreeMap:\t" + (same && sameAs(set, expected) && sortedAgain));
+
+        int[] newIndex = new int[200];
+        TreeMap<Integer,Integer> renumbered = new TreeMap<Integer,Integer>();
+        for (int v = 0; v < 200; v++) {
+            newIndex[v] = 199 - v;
+        }
+        for (Map.Entry<Integer,Integer> entry : expected.entrySet()) {
+            renumbered.put(newIndex[entry.getKey()], entry.getValue());
+        }
+        System.out.println("Testing renumbered() against TreeMap:\t" + sameAs(set.renumbered(newIndex), renumbered));
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ * Computes the eccentricity of many source vertices at once by spreading
+ * their breadth-first searches over a ForkJoinPool. Every worker thread
+ * keeps its own GraphTraversal and distance array, so a search allocates
+ * nothing after the first one on each thread. When the graph is a CSRGraph,
+ * each task instead runs its sources 64 at a time through a MultiSourceBFS.
+ *
+ * One call to measure() gives the eccentricity of every source together
+ * with the diameter, the radius and the center vertices (the sources whose
+ * eccentricity equals the radius), all from a single sweep.
+ *
+ * The graph must not change while measure() runs.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelEccentricity<T> {
+    private static final int SOURCES_PER_TASK = 8; //below this, a task stops splitting
+
+    // instance variables
+    protected IndexedGraph<T> graph;
+    protected CSRGraph<T> snapshot; //the graph again if it is a CSRGraph, else null
+    protected ForkJoinPool pool;
+    protected ThreadLocal<Scratch> scratch; //each worker's traversal engine and distance array
+
+    protected int[] eccentricities; //key = position in the sources, value = its eccentricity
+    protected int diameter;
+    protected int radius;
+    protected LinkedList<T> centerNodes;
+
+    /**
+     * The buffers one worker thread reuses for all of its searches.
+     */
+    private class Scratch {
+        GraphTraversal<T> traversal;
+        int[] dist;
+        MultiSourceBFS<T> multi;
+
+        Scratch() {
+            if (snapshot != null) {
+                multi = new MultiSourceBFS<T>(snapshot);
+            } else {
+                traversal = new GraphTraversal<T>(graph);
+                dist = new int[graph.getNumVertices()];
+            }
+        }
+    }
+
+    /**
+     * Runs the searches for one range of sources, splitting it in half until
+     * it is small enough to do directly.
+     */
+    @SuppressWarnings("serial")
+    private class SweepTask extends RecursiveAction {
+        private final int[] sources;
+        private final int from;
+        private final int to;
+
+        SweepTask(int[] sources, int from, int to) {
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            if (snapshot != null && to - from <= MultiSourceBFS.BATCH_SIZE) {
+                scratch.get().multi.searchBatch(sources, from, to - from, eccentricities, null);
+            } else if (snapshot == null && to - from <= SOURCES_PER_TASK) {
+                Scratch s = scratch.get();
+                if (s.dist.length < graph.getNumVertices()) {
+                    s.dist = new int[graph.getNumVertices()]; //the graph grew since the last measure()
+                }
+                for (int i = from; i < to; i++) {
+                    eccentricities[i] = s.traversal.distances(sources[i], s.dist);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SweepTask(sources, from, middle), new SweepTask(sources, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Constructor for objects of class ParallelEccentricity, using the
+     * common ForkJoinPool.
+     *
+     * @param graph the graph to measure
+     */
+    public ParallelEccentricity(IndexedGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for objects of class ParallelEccentricity
+     *
+     * @param graph the graph to measure
+     * @param pool the pool that runs the searches
+     */
+    public ParallelEccentricity(IndexedGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        if (graph instanceof CSRGraph) {
+            snapshot = (CSRGraph<T>) graph; //snapshots never change, so the kernel's arrays fit for good
+        }
+        scratch = new ThreadLocal<Scratch>() {
+            protected Scratch initialValue() {
+                return new Scratch();
+            }
+        };
+        eccentricities = new int[0];
+        centerNodes = new LinkedList<T>();
+    }
+
+    /**
+     * Finds the eccentricity of every source vertex, then the diameter,
+     * radius and center vertices among them.
+     *
+     * @param sources the vertices to measure from
+     */
+    public void measure(Collection<T> sources) {
+        int[] indices = new int[sources.size()];
+        int count = 0;
+        for (T source : sources) {
+            int index = graph.indexOf(source);
+            if (index != -1) {
+                indices[count++] = index;
+            }
+        }
+        measure(Arrays.copyOf(indices, count));
+    }
+
+    /**
+     * Finds the eccentricity of every source vertex, then the diameter,
+     * radius and center vertices among them.
+     *
+     * @param sources the indices of the vertices to measure from
+     */
+    public void measure(int[] sources) {
+        eccentricities = new int[sources.length];
+        if (sources.length > 0) {
+            pool.invoke(new SweepTask(sources, 0, sources.length));
+        }
+
+        diameter = 0;
+        radius = (sources.length == 0) ? 0 : Integer.MAX_VALUE;
+        centerNodes = new LinkedList<T>();
+        for (int i = 0; i < sources.length; i++) {
+            int e = eccentricities[i];
+            if (e > diameter) {
+                diameter = e;
+            }
+            if (e < radius) {
+                radius = e;
+                centerNodes.clear();
+            }
+            if (e == radius) {
+                centerNodes.add(graph.vertexAt(sources[i]));
+            }
+        }
+    }
+
+    /**
+     * Gets the eccentricities found by the last measure().
+     *
+     * @return the eccentricity of each source, in the order the sources were given
+     */
+    public int[] getEccentricities() {
+        return eccentricities;
+    }
+
+    /**
+     * Gets the diameter found by the last measure().
+     *
+     * @return the largest eccentricity of any source
+     */
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Gets the radius found by the last measure().
+     *
+     * @return the smallest eccentricity of any source
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the center vertices found by the last measure().
+     *
+     * @return the sources whose eccentricity equals the radius
+     */
+    public LinkedList<T> getCenterNodes() {
+        return centerNodes;
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 700; v++) {
+            baseline.addVertex(v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 1500; i++) {
+            baseline.addArc(random.nextInt(700), random.nextInt(700));
+        }
+        CSRGraph<Integer> g = baseline.freeze();
+        int[] sources = new int[300];
+        List<Integer> vertices = new ArrayList<Integer>();
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = random.nextInt(g.getNumVertices());
+            vertices.add(g.vertexAt(sources[i]));
+        }
+
+        ParallelEccentricity<Integer> measured = new ParallelEccentricity<Integer>(g);
+        measured.measure(sources);
+        System.out.println("Testing measure() against a plain BFS over AdjListsGraph:\t"
+            + GraphChecks.sameEccentricities(baseline, vertices, measured.getEccentricities(),
+                measured.getDiameter(), measured.getRadius(), measured.getCenterNodes()));
+
+        // a view of the whole graph is not a CSRGraph, so each source gets its own search
+        BitSet all = new BitSet();
+        all.set(0, g.getNumVertices());
+        ParallelEccentricity<Integer> onView = new ParallelEccentricity<Integer>(new SubgraphView<Integer>(g, all));
+        onView.measure(sources);
+        System.out.println("Testing measure() on a SubgraphView against a plain BFS over AdjListsGraph:\t"
+            + GraphChecks.sameEccentricities(baseline, vertices, onView.getEccentricities(),
+                onView.getDiameter(), onView.getRadius(), onView.getCenterNodes()));
+    }
+}
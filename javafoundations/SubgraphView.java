@@ -0,0 +1,635 @@
+/**
+ * A read-only view of part of another IndexedGraph: the vertices in a
+ * bitset (or that pass a test), and the arcs between them that pass an
+ * optional ArcFilter. Nothing about the arcs is copied; every successor is
+ * read from the underlying graph when it is asked for, and skipped if it
+ * is not in the view. Making a view only numbers the chosen vertices
+ * 0 ... n - 1, as every IndexedGraph is numbered, so GraphTraversal,
+ * ConnectedComponents, BoundingEccentricity and the exporters all work on
+ * a view as they do on a whole graph.
+ *
+ * The first time anything is asked about a row, the row of the underlying
+ * graph is scanned once and the positions of the arcs that are in the view
+ * are kept, so outDegreeAt, successorAt and weightAt are O(1) from then on,
+ * in any order and from any thread. That cache grows to one int for every
+ * arc of the view that has been read.
+ *
+ * The underlying graph must not change while a view of it is in use.
+ * Any method that would change the view throws an
+ * UnsupportedOperationException.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.io.*;
+
+public class SubgraphView<T> implements IndexedGraph<T> {
+    /**
+     * Decides which arcs between two vertices of a view are part of it.
+     */
+    public interface ArcFilter {
+        /**
+         * Checks whether an arc is in the view.
+         *
+         * @param from the index of the origin in the underlying graph
+         * @param to the index of the destination in the underlying graph
+         * @return true if the arc is in the view
+         */
+        boolean accept(int from, int to);
+    }
+
+    // instance variables
+    protected IndexedGraph<T> base; //the graph this is a view of
+    protected ArcFilter arcFilter; //null if every arc between vertices in the view is in it
+    protected int[] baseIndex; //key = index in the view, value = index in base
+    protected int[] viewIndex; //key = index in base, value = index in the view, or -1 if left out
+    protected AtomicReferenceArray<int[]> kept; //key = index in the view, value = positions in its base row of the arcs in the view; null until scanned
+    protected int numArcs; //-1 until counted
+
+    /**
+     * Constructor for objects of class SubgraphView, with every arc between
+     * the vertices in it.
+     *
+     * @param base the graph to view
+     * @param vertices the indices in base of the vertices in the view
+     */
+    public SubgraphView(IndexedGraph<T> base, BitSet vertices) {
+        this(base, vertices, null);
+    }
+
+    /**
+     * Constructor for objects of class SubgraphView. Takes time and memory
+     * in proportion to the number of vertices of base, not of the view,
+     * for the table from base indices to view indices, so many small views
+     * of one huge graph are better made one at a time.
+     *
+     * @param base the graph to view
+     * @param vertices the indices in base of the vertices in the view
+     * @param arcFilter which arcs between them are in the view, or null for all of them
+     */
+    public SubgraphView(IndexedGraph<T> base, BitSet vertices, ArcFilter arcFilter) {
+        this.base = base;
+        this.arcFilter = arcFilter;
+        int n = base.getNumVertices();
+        viewIndex = new int[n];
+        Arrays.fill(viewIndex, -1);
+        baseIndex = new int[vertices.cardinality()];
+        int count = 0;
+        for (int i = vertices.nextSetBit(0); i >= 0 && i < n; i = vertices.nextSetBit(i + 1)) {
+            viewIndex[i] = count;
+            baseIndex[count++] = i;
+        }
+        if (count < baseIndex.length) {
+            baseIndex = Arrays.copyOf(baseIndex, count); //bits past the end of base are ignored
+        }
+        kept = new AtomicReferenceArray<int[]>(count);
+        numArcs = -1;
+    }
+
+    /**
+     * Makes the view of a set of vertices and every arc between them.
+     *
+     * @param base the graph to view
+     * @param vertices the vertices in the view; any not in base are ignored
+     * @return the view
+     */
+    public static <T> SubgraphView<T> induced(IndexedGraph<T> base, Collection<T> vertices) {
+        BitSet chosen = new BitSet(base.getNumVertices());
+        for (T v : vertices) {
+            int index = base.indexOf(v);
+            if (index != -1) {
+                chosen.set(index);
+            }
+        }
+        return new SubgraphView<T>(base, chosen);
+    }
+
+    /**
+     * Makes the view of the vertices that pass a test and every arc
+     * between them.
+     *
+     * @param base the graph to view
+     * @param keep which vertices are in the view
+     * @return the view
+     */
+    public static <T> SubgraphView<T> filter(IndexedGraph<T> base, Predicate<? super T> keep) {
+        BitSet chosen = new BitSet(base.getNumVertices());
+        for (int i = 0; i < base.getNumVertices(); i++) {
+            if (keep.test(base.vertexAt(i))) {
+                chosen.set(i);
+            }
+        }
+        return new SubgraphView<T>(base, chosen);
+    }
+
+    /**
+     * Checks whether an arc of the underlying graph is in the view.
+     *
+     * @param from the index of the origin in base, which is in the view
+     * @param to the index of the destination in base
+     * @return true if the arc is in the view
+     */
+    private boolean keeps(int from, int to) {
+        return viewIndex[to] != -1 && (arcFilter == null || arcFilter.accept(from, to));
+    }
+
+    /**
+     * Gets the graph this is a view of.
+     *
+     * @return the underlying graph
+     */
+    public IndexedGraph<T> getBase() {
+        return base;
+    }
+
+    /**
+     * Gets the index in the underlying graph of a vertex of the view.
+     *
+     * @param index the index of the vertex in the view
+     * @return its index in the underlying graph
+     */
+    public int baseIndexAt(int index) {
+        return baseIndex[index];
+    }
+
+    /**
+     * Looks up the index of a vertex.
+     *
+     * @param v the vertex to look up
+     * @return the index of v in the view, or -1 if v is not in the view
+     */
+    public int indexOf(T v) {
+        int index = base.indexOf(v);
+        return (index == -1) ? -1 : viewIndex[index];
+    }
+
+    /**
+     * Gets the vertex stored at an index.
+     *
+     * @param index the index of the vertex
+     * @return the vertex at that index
+     */
+    public T vertexAt(int index) {
+        return base.vertexAt(baseIndex[index]);
+    }
+
+    /**
+     * Gets the positions in the underlying row of the arcs of a vertex that
+     * are in the view, scanning the row the first time.
+     *
+     * @param index the index of the vertex in the view
+     * @return the positions, in order
+     */
+    private int[] keptPositions(int index) {
+        int[] positions = kept.get(index);
+        if (positions == null) {
+            int from = baseIndex[index];
+            int degree = base.outDegreeAt(from);
+            positions = new int[degree];
+            int count = 0;
+            for (int k = 0; k < degree; k++) {
+                if (keeps(from, base.successorAt(from, k))) {
+                    positions[count++] = k;
+                }
+            }
+            if (count < degree) {
+                positions = Arrays.copyOf(positions, count);
+            }
+            kept.set(index, positions); //any thread that races here finds the same
+        }
+        return positions;
+    }
+
+    /**
+     * Checks the number of successors of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @return its out-degree in the view
+     */
+    public int outDegreeAt(int index) {
+        return keptPositions(index).length;
+    }
+
+    /**
+     * Gets one successor of the vertex at an index.
+     *
+     * @param index the index of the vertex
+     * @param k which successor, from 0 to outDegreeAt(index) - 1
+     * @return the index of the successor in the view
+     */
+    public int successorAt(int index, int k) {
+        return viewIndex[base.successorAt(baseIndex[index], keptPositions(index)[k])];
+    }
+
+    /**
+     * Gets the weight of one arc of the vertex at an index, which is its
+     * weight in the underlying graph.
+     *
+     * @param index the index of the vertex
+     * @param k which arc, from 0 to outDegreeAt(index) - 1
+     * @return the weight of the arc to successorAt(index, k)
+     */
+    public int weightAt(int index, int k) {
+        return base.weightAt(baseIndex[index], keptPositions(index)[k]);
+    }
+
+    /**
+     * Determines whether a graph is empty
+     *
+     * @return a boolean indicating whether the graph is empty
+     */
+    public boolean isEmpty() {
+        return baseIndex.length == 0;
+    }
+
+    /**
+     * Checks the number of vertices in the graph.
+     *
+     * @return an integer representation of the number of vertices
+     */
+    public int getNumVertices() {
+        return baseIndex.length;
+    }
+
+    /**
+     * Checks the total number of arcs in the graph. Counts every
+     * out-degree the first time it is called.
+     *
+     * @return an integer representation of the number of arcs
+     */
+    public int getNumArcs() {
+        if (numArcs == -1) {
+            int total = 0;
+            for (int i = 0; i < baseIndex.length; i++) {
+                total += outDegreeAt(i);
+            }
+            numArcs = total;
+        }
+        return numArcs;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an arc.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected
+     */
+    public boolean isArc(T v1, T v2) {
+        int origin = base.indexOf(v1);
+        int destination = base.indexOf(v2);
+        if (origin == -1 || destination == -1 || viewIndex[origin] == -1) {
+            return false;
+        }
+        return keeps(origin, destination) && base.isArc(v1, v2);
+    }
+
+    /**
+     * Gets the weight of the arc between two vertices.
+     *
+     * @param v1 the origin vertex
+     * @param v2 the destination vertex
+     * @return the weight of the arc, or 0 if it is not in the view
+     */
+    public int getWeight(T v1, T v2) {
+        return isArc(v1, v2) ? base.getWeight(v1, v2) : 0;
+    }
+
+    /**
+     * Determines whether two vertices are connected by an edge.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     * @returns boolean indicating whether the two vertices are connected by an edge
+     */
+    public boolean isEdge(T v1, T v2) {
+        return (isArc(v1, v2) && isArc(v2, v1));
+    }
+
+    /**
+     * Determines whether the graph is undirected. Sorts every arc of the
+     * view, packed into a long, and looks for the arc back of each with a
+     * binary search.
+     *
+     * @returns boolean indicating whether the graph is undirected
+     */
+    public boolean isUndirected() {
+        long[] arcs = new long[getNumArcs()];
+        int count = 0;
+        for (int i = 0; i < baseIndex.length; i++) {
+            for (int k = 0; k < outDegreeAt(i); k++) {
+                arcs[count++] = ((long) i << 32) | successorAt(i, k);
+            }
+        }
+        Arrays.sort(arcs);
+        for (long arc : arcs) {
+            long back = (arc << 32) | (arc >>> 32);
+            if (Arrays.binarySearch(arcs, back) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertex(T v) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeVertex(T v) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArc(T v1, T v2, int weight) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeArc(T v1, T v2) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeEdge(T v1, T v2) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addVertices(Collection<T> vertices) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void addArcs(int[] from, int[] to) {
+        throw new UnsupportedOperationException("A SubgraphView cannot be changed.");
+    }
+
+    /**
+     * Views never grow, so there is nothing to do.
+     *
+     * @param numVertices ignored
+     * @param numArcs ignored
+     */
+    public void ensureCapacity(int numVertices, int numArcs) {
+    }
+
+    /**
+     * Returns a linked list of the successors of vertex v.
+     *
+     * @return a linked list with the successors of v
+     * @param v the vertex you want the successors of
+     */
+    public LinkedList<T> getSuccessors(T v) {
+        LinkedList<T> successors = new LinkedList<T>();
+        int index = indexOf(v);
+        if (index != -1) {
+            for (int k = 0; k < outDegreeAt(index); k++) {
+                successors.add(vertexAt(successorAt(index, k)));
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a linked list of the predecessors of vertex v, taken from
+     * the predecessors in the underlying graph.
+     *
+     * @return a linked list with the predecessors of v
+     * @param v the vertex you want the predecessors of
+     */
+    public LinkedList<T> getPredecessors(T v) {
+        LinkedList<T> predecessors = new LinkedList<T>();
+        int index = base.indexOf(v);
+        if (index != -1 && viewIndex[index] != -1) {
+            for (T predecessor : base.getPredecessors(v)) {
+                int from = base.indexOf(predecessor);
+                if (viewIndex[from] != -1 && (arcFilter == null || arcFilter.accept(from, index))) {
+                    predecessors.add(predecessor);
+                }
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Checks how many arcs end at vertex v.
+     *
+     * @return the number of predecessors of v, or 0 if v is not in the view
+     * @param v the vertex you want the in-degree of
+     */
+    public int getInDegree(T v) {
+        return getPredecessors(v).size();
+    }
+
+    /**
+     * Checks how many arcs start at vertex v.
+     *
+     * @return the number of successors of v, or 0 if v is not in the view
+     * @param v the vertex you want the out-degree of
+     */
+    public int getOutDegree(T v) {
+        int index = indexOf(v);
+        return (index == -1) ? 0 : outDegreeAt(index);
+    }
+
+    /**
+     * Performs a breadth-first traversal of the view, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> BFtraversal(T v) {
+        return new GraphTraversal<T>(this).BFtraversal(v);
+    }
+
+    /**
+     * Performs a depth-first traversal of the view, beginning at the
+     * user-specificed vertex.
+     *
+     * @return a linked list with all vertexes visited in the traversal
+     * @param v the vertex you want to begin your traversal from
+     */
+    public LinkedList<T> DFtraversal(T v) {
+        return new GraphTraversal<T>(this).DFtraversal(v);
+    }
+
+    /**
+     * Creates a TGF file with the vertices and arcs of the view.
+     *
+     * @param fileName the name you want the file to be saved with
+     */
+    public void saveToTGF(String fileName) {
+        try {
+            new GraphExporter<T>(this).saveToTGF(fileName);
+        }
+        catch (IOException e) {
+            System.out.println (e);
+        }
+    }
+
+    /**
+     * Standard toString method
+     *
+     * @return a string representation of the view
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("Vertices:\n[");
+        for (int i = 0; i < baseIndex.length; i++) {
+            result.append((i == 0 ? "" : ", ") + vertexAt(i));
+        }
+        result.append("]\nEdges:\n");
+        for (int i = 0; i < baseIndex.length; i++) {
+            result.append("from " + vertexAt(i) + ":\t" + getSuccessors(vertexAt(i)) + "\n");
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) {
+        AdjListsGraph<Integer> g = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 600; v++) {
+            g.addVertex(v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 6000; i++) {
+            g.addArc(random.nextInt(600), random.nextInt(600), 1 + random.nextInt(9));
+        }
+
+        // the even vertices, and only the arcs that go up
+        CSRGraph<Integer> snapshot = g.freeze();
+        BitSet even = new BitSet();
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 600; v += 2) {
+            even.set(snapshot.indexOf(v));
+            baseline.addVertex(v);
+        }
+        for (int v = 0; v < 600; v += 2) {
+            for (Integer w : g.getSuccessors(v)) {
+                if (w % 2 == 0 && v < w) {
+                    baseline.addArc(v, w, g.getWeight(v, w));
+                }
+            }
+        }
+        SubgraphView<Integer> view = new SubgraphView<Integer>(snapshot, even,
+            (from, to) -> snapshot.vertexAt(from) < snapshot.vertexAt(to));
+        System.out.println("Testing SubgraphView against AdjListsGraph:\t" + GraphChecks.sameArcs(view, baseline));
+
+        // a fresh view read back to front, so no row is read in order
+        SubgraphView<Integer> backwards = new SubgraphView<Integer>(snapshot, even,
+            (from, to) -> snapshot.vertexAt(from) < snapshot.vertexAt(to));
+        boolean same = true;
+        for (int i = backwards.getNumVertices() - 1; i >= 0; i--) {
+            for (int k = backwards.outDegreeAt(i) - 1; k >= 0; k--) {
+                same = same && backwards.successorAt(i, k) == view.successorAt(i, k)
+                    && backwards.weightAt(i, k) == view.weightAt(i, k);
+            }
+        }
+        System.out.println("Testing successorAt() read back to front:\t" + same);
+        System.out.println("Testing isUndirected() against AdjListsGraph:\t" + (view.isUndirected() == baseline.isUndirected()));
+
+        // an undirected graph stays undirected in an induced view
+        AdjListsGraph<Integer> undirected = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 100; v++) {
+            undirected.addVertex(v);
+        }
+        for (int i = 0; i < 400; i++) {
+            undirected.addEdge(random.nextInt(100), random.nextInt(100));
+        }
+        List<Integer> low = new ArrayList<Integer>();
+        for (int v = 0; v < 50; v++) {
+            low.add(v);
+        }
+        System.out.println("Testing isUndirected() of an induced view:\t" + undirected.subgraph(low).isUndirected());
+
+        // the most popular stories and the RATs that tweeted about them, as Investigate would look at them
+        BipartiteGraph<Integer> rats = new BipartiteGraph<Integer>();
+        for (int rat = 0; rat < 300; rat++) {
+            rats.addLeft(rat);
+        }
+        for (int story = 1000; story < 1060; story++) {
+            rats.addRight(story);
+        }
+        for (int i = 0; i < 900; i++) {
+            int story = 1000 + ((random.nextInt(3) == 0) ? random.nextInt(8) : random.nextInt(60)); //the first few are popular
+            rats.addEdge(random.nextInt(300), story);
+        }
+        List<Integer> stories = new ArrayList<Integer>();
+        for (int story = 1000; story < 1060; story++) {
+            stories.add(story);
+        }
+        stories.sort((s1, s2) -> rats.getOutDegree(s2) - rats.getOutDegree(s1));
+        Set<Integer> chosen = new LinkedHashSet<Integer>();
+        for (Integer story : stories.subList(0, 5)) {
+            chosen.add(story);
+            chosen.addAll(rats.getSuccessors(story));
+        }
+        AdjListsGraph<Integer> expected = new AdjListsGraph<Integer>();
+        for (Integer v : chosen) {
+            expected.addVertex(v);
+        }
+        for (Integer v : chosen) {
+            for (Integer w : rats.getSuccessors(v)) {
+                if (chosen.contains(w)) {
+                    expected.addArc(v, w);
+                }
+            }
+        }
+        SubgraphView<Integer> popular = SubgraphView.induced(rats, chosen);
+        System.out.println("Testing induced() on the most popular stories against AdjListsGraph:\t"
+            + (GraphChecks.sameArcs(popular, expected) && new ConnectedComponents<Integer>(popular).getNumComponents()
+               == new ConnectedComponents<Integer>(expected.freeze()).getNumComponents()));
+    }
+}
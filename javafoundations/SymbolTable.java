@@ -0,0 +1,284 @@
+/**
+ * Stores each distinct label (a username, a user id, a story id...) once
+ * and gives it a dense int id, from 0 in the order the labels were first
+ * seen. Everything else can then hold the id instead of its own copy of
+ * the String, and compare labels with ==.
+ *
+ * The labels are not kept as Strings: their characters are packed one
+ * byte each (Latin-1) into a single growing byte array, with an offset
+ * per id, so a label costs its length plus four bytes instead of a String
+ * object and its array. Labels with a character above 255 cannot be
+ * packed that way and are kept as Strings on the side. Looking a label up
+ * hashes it into an open-addressing table of ids and compares the
+ * characters against the packed bytes in place, without making a String.
+ *
+ * Labels can be kept apart in numbered namespaces, so that the same text
+ * used as two kinds of label (a username that is also a story id, say)
+ * gets two ids. Labels interned without a namespace are in namespace 0.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.nio.charset.StandardCharsets;
+
+public class SymbolTable {
+    // instance variables
+    protected byte[] bytes; //the Latin-1 characters of every label, back to back
+    protected int numBytes;
+    protected int[] starts; //key = id, value = where its label starts in bytes; the next entry is where it ends
+    protected int[] hashes; //key = id, value = hashCode() of its label, mixed with its namespace
+    protected byte[] namespaces; //key = id, value = the namespace of its label
+    protected int size;
+    protected int[] table; //open addressing, key = slot, value = id, or -1 if the slot is empty
+    protected Hashtable<Integer,String> wide; //key = id, value = a label that does not fit Latin-1
+
+    /**
+     * Constructor for objects of class SymbolTable
+     */
+    public SymbolTable() {
+        this(16);
+    }
+
+    /**
+     * Constructor for objects of class SymbolTable, sized for a number of
+     * labels.
+     *
+     * @param expected how many labels the table should hold before it grows
+     */
+    public SymbolTable(int expected) {
+        int capacity = 16;
+        while (capacity < expected * 2) {
+            capacity *= 2;
+        }
+        bytes = new byte[Math.max(16, expected * 8)];
+        starts = new int[Math.max(16, expected) + 1];
+        hashes = new int[Math.max(16, expected)];
+        namespaces = new byte[hashes.length];
+        table = new int[capacity];
+        Arrays.fill(table, -1);
+        wide = new Hashtable<Integer,String>();
+    }
+
+    /**
+     * Spreads the bits of a hash so that similar labels do not cluster.
+     */
+    private int slot(int hash) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (table.length - 1);
+    }
+
+    /**
+     * Hashes a label together with its namespace.
+     */
+    private static int hashOf(int namespace, String label) {
+        return label.hashCode() + namespace * 0x61C88647;
+    }
+
+    /**
+     * Checks whether the label with an id is a given String, comparing it
+     * character by character against the packed bytes.
+     *
+     * @param id the id of a label
+     * @param label the String to compare it with
+     * @return true if they are the same label
+     */
+    public boolean labelEquals(int id, String label) {
+        if (!wide.isEmpty() && wide.containsKey(id)) {
+            return wide.get(id).equals(label);
+        }
+        int start = starts[id];
+        if (starts[id + 1] - start != label.length()) {
+            return false;
+        }
+        for (int k = 0; k < label.length(); k++) {
+            if ((bytes[start + k] & 0xFF) != label.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the id of a label in namespace 0.
+     *
+     * @param label the label to look up
+     * @return its id, or -1 if it is not in the table
+     */
+    public int idOf(String label) {
+        return idOf(0, label);
+    }
+
+    /**
+     * Looks up the id of a label in a namespace.
+     *
+     * @param namespace the namespace of the label, from 0 to 127
+     * @param label the label to look up
+     * @return its id, or -1 if it is not in the table
+     */
+    public int idOf(int namespace, String label) {
+        int hash = hashOf(namespace, label);
+        int mask = table.length - 1;
+        for (int i = slot(hash); table[i] != -1; i = (i + 1) & mask) {
+            int id = table[i];
+            if (hashes[id] == hash && namespaces[id] == namespace && labelEquals(id, label)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the id of a label in namespace 0, adding the label if it is not
+     * already there.
+     *
+     * @param label the label to add
+     * @return its id
+     */
+    public int intern(String label) {
+        return intern(0, label);
+    }
+
+    /**
+     * Gets the id of a label in a namespace, adding the label if it is not
+     * already there.
+     *
+     * @param namespace the namespace of the label, from 0 to 127
+     * @param label the label to add
+     * @return its id
+     * @throws IllegalArgumentException if the namespace is out of range
+     */
+    public int intern(int namespace, String label) {
+        if (namespace < 0 || namespace > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Namespaces go from 0 to " + Byte.MAX_VALUE + ", not " + namespace + ".");
+        }
+        int hash = hashOf(namespace, label);
+        int mask = table.length - 1;
+        int i = slot(hash);
+        for (; table[i] != -1; i = (i + 1) & mask) {
+            int id = table[i];
+            if (hashes[id] == hash && namespaces[id] == namespace && labelEquals(id, label)) {
+                return id;
+            }
+        }
+
+        int id = size++;
+        if (id == hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            namespaces = Arrays.copyOf(namespaces, hashes.length);
+            starts = Arrays.copyOf(starts, hashes.length + 1);
+        }
+        hashes[id] = hash;
+        namespaces[id] = (byte) namespace;
+        if (fitsLatin1(label)) {
+            if (numBytes + label.length() > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, numBytes + label.length()));
+            }
+            for (int k = 0; k < label.length(); k++) {
+                bytes[numBytes++] = (byte) label.charAt(k);
+            }
+        } else {
+            wide.put(id, label); //takes no bytes, so its start and end are the same
+        }
+        starts[id + 1] = numBytes;
+
+        table[i] = id;
+        if (size * 2 > table.length) {
+            grow();
+        }
+        return id;
+    }
+
+    /**
+     * Checks whether every character of a label fits in one byte.
+     */
+    private static boolean fitsLatin1(String label) {
+        for (int k = 0; k < label.length(); k++) {
+            if (label.charAt(k) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the size of the hash table and puts every id back in it.
+     */
+    private void grow() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+        for (int id = 0; id < size; id++) {
+            int i = slot(hashes[id]);
+            while (table[i] != -1) {
+                i = (i + 1) & mask;
+            }
+            table[i] = id;
+        }
+    }
+
+    /**
+     * Gets the label with an id. Makes a new String each time, so hold on
+     * to the id rather than the label.
+     *
+     * @param id the id of a label
+     * @return the label
+     */
+    public String labelOf(int id) {
+        if (!wide.isEmpty() && wide.containsKey(id)) {
+            return wide.get(id);
+        }
+        return new String(bytes, starts[id], starts[id + 1] - starts[id], StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Gets the namespace of the label with an id.
+     *
+     * @param id the id of a label
+     * @return its namespace
+     */
+    public int namespaceOf(int id) {
+        return namespaces[id];
+    }
+
+    /**
+     * Checks how many labels are in the table.
+     *
+     * @return the number of labels, which is also one more than the highest id
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks how many bytes the packed labels take up.
+     *
+     * @return the number of bytes used to store the Latin-1 labels
+     */
+    public int getNumBytes() {
+        return numBytes;
+    }
+
+    public static void main(String[] args) {
+        SymbolTable symbols = new SymbolTable();
+        Hashtable<String,Integer> baseline = new Hashtable<String,Integer>();
+        boolean same = true;
+        for (int k = 0; k < 1000; k++) {
+            String label = (k % 3 == 0) ? "story" + (k % 250) : "\u0420\u0410\u0422" + (k % 100); //some wide labels
+            int id = symbols.intern(label);
+            if (!baseline.containsKey(label)) {
+                baseline.put(label, id);
+            }
+            same = same && baseline.get(label) == id && symbols.labelOf(id).equals(label);
+        }
+        System.out.println("Testing intern() and labelOf() against a Hashtable:\t" + (same && symbols.size() == baseline.size()));
+        System.out.println("Testing idOf() with a missing label:\t" + symbols.idOf("nobody"));
+
+        int story = symbols.intern(2, "155892608");
+        int user = symbols.intern(1, "155892608");
+        System.out.println("Testing namespaces with 155892608:\t" + (story != user) + ", "
+            + (symbols.idOf(2, "155892608") == story) + ", " + symbols.labelOf(user) + ", " + symbols.namespaceOf(user));
+    }
+}
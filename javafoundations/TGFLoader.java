@@ -0,0 +1,487 @@
+/**
+ * Loads a TGF file straight into a CSRGraph, for files far too big to read
+ * through a Scanner one token at a time. The file is memory-mapped; the
+ * vertex lines ("id label") are read first, then the arc section is cut
+ * into chunks on line boundaries and the chunks are parsed in parallel on
+ * a ForkJoinPool, each task copying its chunk out of the mapping and
+ * reading the ids from it digit by digit, with no Strings or regexes.
+ * The arcs are then put into CSR form with a count-then-fill pass: count
+ * every vertex's out-degree, turn the counts into row offsets, and drop
+ * every arc into its row. Rows are sorted and repeated arcs are dropped,
+ * as AdjListsGraph would.
+ *
+ * A whole number after the two ids of an arc line, such as GraphExporter
+ * writes there, is read as the weight of the arc; any other arc label is
+ * ignored, and arcs without a weight have weight 1. If an arc is repeated
+ * with different weights, the one given last in the file is kept, as
+ * Graph.addArc(v1, v2, weight) keeps the last weight given.
+ *
+ * The ids on the arc lines refer to the ids on the vertex lines, which do
+ * not have to be 1 ... n, but must be whole numbers from 0 to
+ * Integer.MAX_VALUE. Vertex lines whose id is missing, not such a number,
+ * or the same as an earlier line's are skipped and counted, as are arc
+ * lines with an unknown id or that cannot be read.
+ *
+ * The file must be under 2GB, since it is mapped as one buffer.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class TGFLoader {
+    private static final int MIN_CHUNK_BYTES = 1 << 20; //smaller chunks are not worth a task of their own
+    private static final int MAX_CHUNK_BYTES = 1 << 24; //each task copies its chunk, so this bounds the memory used
+
+    // instance variables
+    protected MappedByteBuffer bytes;
+    protected IntIndexMap ids; //key = TGF id, value = vertex index
+    protected int[] idTable; //the same, as an array from minId, when the ids are dense enough
+    protected long minId;
+    protected String[] labels; //key = vertex index, value = label
+    protected int[] vertexIds; //key = vertex index, value = TGF id
+    protected int numVertices;
+    protected int skipped; //arc lines that were skipped
+    protected int skippedVertices; //vertex lines that were skipped
+
+    /**
+     * Parses the arc lines between two positions of the file into pairs of
+     * vertex indices, and their weights.
+     */
+    @SuppressWarnings("serial")
+    private class ParseTask extends RecursiveAction {
+        private final int start;
+        private final int end;
+        int[] origins = new int[16];
+        int[] destinations = new int[16];
+        int[] weights; //parallel to origins; null until an arc has a weight other than 1
+        int count;
+        int bad;
+
+        ParseTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        protected void compute() {
+            // copies the chunk out of the mapping first: parsing a plain array
+            // is several times faster than a get() call per byte
+            byte[] text = new byte[end - start];
+            bytes.duplicate().position(start).get(text);
+            int length = text.length;
+
+            int i = 0;
+            while (i < length) {
+                byte b = text[i];
+                if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    i++;
+                    continue; //blank lines and leading blanks
+                }
+
+                // reads "from to" and a weight, ignoring any other label after them
+                long from = 0;
+                int digitsStart = i;
+                for (; i < length && text[i] >= '0' && text[i] <= '9'; i++) {
+                    from = from * 10 + (text[i] - '0');
+                }
+                boolean ok = i > digitsStart && i - digitsStart <= 10;
+                while (i < length && (text[i] == ' ' || text[i] == '\t')) {
+                    i++;
+                }
+                long to = 0;
+                digitsStart = i;
+                for (; i < length && text[i] >= '0' && text[i] <= '9'; i++) {
+                    to = to * 10 + (text[i] - '0');
+                }
+                ok = ok && i > digitsStart && i - digitsStart <= 10;
+                while (i < length && (text[i] == ' ' || text[i] == '\t')) {
+                    i++;
+                }
+                boolean negative = i < length && text[i] == '-';
+                digitsStart = negative ? i + 1 : i;
+                long weight = 0;
+                int k = digitsStart;
+                for (; k < length && text[k] >= '0' && text[k] <= '9'; k++) {
+                    weight = weight * 10 + (text[k] - '0');
+                }
+                boolean weighted = k > digitsStart && k - digitsStart <= 10
+                    && (k == length || text[k] == ' ' || text[k] == '\t' || text[k] == '\r' || text[k] == '\n');
+                weight = negative ? -weight : weight;
+                if (!weighted || weight < Integer.MIN_VALUE || weight > Integer.MAX_VALUE) {
+                    weight = 1; //no weight, or a label that is not one
+                }
+                while (i < length && text[i] != '\n') {
+                    i++;
+                }
+
+                int origin = ok ? lookup(from) : -1;
+                int destination = ok ? lookup(to) : -1;
+                if (origin == -1 || destination == -1) {
+                    bad++;
+                    continue;
+                }
+                if (count == origins.length) {
+                    origins = Arrays.copyOf(origins, count * 2);
+                    destinations = Arrays.copyOf(destinations, count * 2);
+                    if (weights != null) {
+                        weights = Arrays.copyOf(weights, count * 2);
+                    }
+                }
+                if (weight != 1 && weights == null) {
+                    weights = new int[origins.length];
+                    Arrays.fill(weights, 1);
+                }
+                if (weights != null) {
+                    weights[count] = (int) weight;
+                }
+                origins[count] = origin;
+                destinations[count++] = destination;
+            }
+        }
+    }
+
+    /**
+     * Constructor for objects of class TGFLoader. Use TGFLoader.load.
+     */
+    private TGFLoader() {
+    }
+
+    /**
+     * Loads a TGF file.
+     *
+     * @param fileName the file to read
+     * @return a snapshot of the graph in the file, with its labels as Strings
+     * @throws IOException if the file cannot be read, or has no "#" line
+     */
+    public static CSRGraph<String> load(String fileName) throws IOException {
+        return load(fileName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads a TGF file, parsing the arcs on the given pool.
+     *
+     * @param fileName the file to read
+     * @param pool the pool to parse the arc section on
+     * @return a snapshot of the graph in the file, with its labels as Strings
+     * @throws IOException if the file cannot be read, or has no "#" line
+     */
+    public static CSRGraph<String> load(String fileName, ForkJoinPool pool) throws IOException {
+        TGFLoader loader = new TGFLoader();
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(fileName + " is too big to load (over 2GB).");
+            }
+            loader.bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int end = loader.bytes.limit();
+        int arcsStart = loader.readVertices(end);
+        if (arcsStart == -1) {
+            throw new IOException(fileName + " has no \"#\" line, so it is not a TGF file.");
+        }
+        if (loader.skippedVertices > 0) {
+            System.out.println(loader.skippedVertices + " vertex line(s) in " + fileName
+                + " have a missing, unreadable or repeated id, and were skipped.");
+        }
+        CSRGraph<String> graph = loader.readArcs(arcsStart, end, pool);
+        if (loader.skipped > 0) {
+            System.out.println(loader.skipped + " arc(s) in " + fileName + " refer to vertices that don't exist, and were skipped.");
+        }
+        return graph;
+    }
+
+    /**
+     * Reads the vertex lines, up to the "#" line.
+     *
+     * @param end the end of the file
+     * @return where the arc section starts, or -1 if there is no "#" line
+     */
+    private int readVertices(int end) {
+        labels = new String[16];
+        vertexIds = new int[16];
+        ids = new IntIndexMap(16);
+        minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        int i = 0;
+        while (true) {
+            i = skipBlank(i, end);
+            if (i >= end) {
+                return -1;
+            }
+            if (bytes.get(i) == '#') {
+                // ids like 1 ... n fit a plain array, which is much faster to
+                // look up than the hash map
+                if (numVertices > 0 && maxId - minId < 4L * numVertices + 16) {
+                    idTable = new int[(int) (maxId - minId + 1)];
+                    Arrays.fill(idTable, -1);
+                    for (int v = 0; v < numVertices; v++) {
+                        idTable[(int) (vertexIds[v] - minId)] = v;
+                    }
+                }
+                return nextLine(i, end);
+            }
+
+            long id = 0;
+            int digitsStart = i;
+            for (; i < end && isDigit(bytes.get(i)); i++) {
+                if (id <= Integer.MAX_VALUE) { //stops growing once it is too big, so it cannot wrap
+                    id = id * 10 + (bytes.get(i) - '0');
+                }
+            }
+            boolean ok = i > digitsStart && id <= Integer.MAX_VALUE
+                && (i == end || bytes.get(i) == ' ' || bytes.get(i) == '\t' || bytes.get(i) == '\r' || bytes.get(i) == '\n');
+            if (!ok || ids.get((int) id) != -1) {
+                skippedVertices++; //the first line with a repeated id is the one kept
+                i = nextLine(i, end);
+                continue;
+            }
+            while (i < end && (bytes.get(i) == ' ' || bytes.get(i) == '\t')) {
+                i++;
+            }
+            int labelStart = i;
+            int labelEnd = i;
+            for (; i < end && bytes.get(i) != '\n'; i++) {
+                if (bytes.get(i) != ' ' && bytes.get(i) != '\t' && bytes.get(i) != '\r') {
+                    labelEnd = i + 1; //the label is trimmed like build() trims it
+                }
+            }
+            byte[] label = new byte[labelEnd - labelStart];
+            for (int k = 0; k < label.length; k++) {
+                label[k] = bytes.get(labelStart + k);
+            }
+
+            if (numVertices == labels.length) {
+                labels = Arrays.copyOf(labels, numVertices * 2);
+                vertexIds = Arrays.copyOf(vertexIds, numVertices * 2);
+            }
+            labels[numVertices] = new String(label, StandardCharsets.UTF_8);
+            vertexIds[numVertices] = (int) id;
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+            ids.put((int) id, numVertices++);
+        }
+    }
+
+    /**
+     * Parses the arc section in parallel and builds the CSR arrays.
+     *
+     * @param start where the arc section starts
+     * @param end the end of the file
+     * @param pool the pool to parse on
+     * @return the graph
+     */
+    private CSRGraph<String> readArcs(int start, int end, ForkJoinPool pool) {
+        // cuts the section into chunks, moving every cut to the next line start
+        int numChunks = Math.max(1, Math.min(pool.getParallelism() * 4, (end - start) / MIN_CHUNK_BYTES));
+        numChunks = Math.max(numChunks, (end - start) / MAX_CHUNK_BYTES + 1);
+        ParseTask[] tasks = new ParseTask[numChunks];
+        int chunkStart = start;
+        for (int c = 0; c < numChunks; c++) {
+            int chunkEnd = (c == numChunks - 1) ? end
+                : nextLine(Math.max(chunkStart, start + (int) ((long) (end - start) * (c + 1) / numChunks)), end);
+            tasks[c] = new ParseTask(chunkStart, chunkEnd);
+            chunkStart = chunkEnd;
+        }
+        for (ParseTask task : tasks) {
+            pool.execute(task);
+        }
+        for (ParseTask task : tasks) {
+            task.join();
+            skipped += task.bad;
+        }
+
+        // counts every row, then fills the rows in
+        int[] offsets = new int[numVertices + 1];
+        for (ParseTask task : tasks) {
+            for (int k = 0; k < task.count; k++) {
+                offsets[task.origins[k] + 1]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[offsets[numVertices]];
+        int[] weights = null;
+        for (ParseTask task : tasks) {
+            if (task.weights != null) {
+                weights = new int[targets.length];
+            }
+        }
+        int[] fill = Arrays.copyOf(offsets, numVertices);
+        for (ParseTask task : tasks) {
+            for (int k = 0; k < task.count; k++) {
+                int slot = fill[task.origins[k]]++;
+                targets[slot] = task.destinations[k];
+                if (weights != null) {
+                    weights[slot] = (task.weights == null) ? 1 : task.weights[k];
+                }
+            }
+        }
+
+        // sorts every row and squeezes out repeated arcs, keeping the last of each
+        int position = 0;
+        for (int v = 0; v < numVertices; v++) {
+            int rowStart = offsets[v];
+            int rowEnd = offsets[v + 1];
+            sortRowInOrder(targets, weights, rowStart, rowEnd);
+            offsets[v] = position;
+            for (int k = rowStart; k < rowEnd; k++) {
+                if (k + 1 == rowEnd || targets[k] != targets[k + 1]) {
+                    if (weights != null) {
+                        weights[position] = weights[k];
+                    }
+                    targets[position++] = targets[k];
+                }
+            }
+        }
+        offsets[numVertices] = position;
+        return new CSRGraph<String>(Arrays.copyOf(labels, numVertices), offsets, Arrays.copyOf(targets, position),
+                                    (weights == null) ? null : Arrays.copyOf(weights, position));
+    }
+
+    /**
+     * Sorts one row of targets, moving each arc's weight along with it.
+     * Arcs to the same target stay in the order they were read, since the
+     * rows are filled in file order.
+     *
+     * @param targets the successor indices
+     * @param weights the weights parallel to targets, or null if unweighted
+     * @param from where the row starts
+     * @param to where the row ends
+     */
+    private static void sortRowInOrder(int[] targets, int[] weights, int from, int to) {
+        if (weights == null) {
+            Arrays.sort(targets, from, to);
+            return;
+        }
+        // packs each arc into a long, target above its place in the row, so ties keep their order
+        long[] arcs = new long[to - from];
+        for (int k = from; k < to; k++) {
+            arcs[k - from] = ((long) targets[k] << 32) | (k - from);
+        }
+        Arrays.sort(arcs);
+        int[] rowWeights = Arrays.copyOfRange(weights, from, to);
+        for (int k = from; k < to; k++) {
+            targets[k] = (int) (arcs[k - from] >>> 32);
+            weights[k] = rowWeights[(int) arcs[k - from]];
+        }
+    }
+
+    /**
+     * Finds the vertex with a TGF id.
+     *
+     * @param id the id read from an arc line
+     * @return the index of the vertex, or -1 if no vertex line has that id
+     */
+    private int lookup(long id) {
+        if (idTable != null) {
+            long slot = id - minId;
+            return (slot >= 0 && slot < idTable.length) ? idTable[(int) slot] : -1;
+        }
+        return (id <= Integer.MAX_VALUE) ? ids.get((int) id) : -1;
+    }
+
+    /**
+     * Skips spaces, tabs and line breaks.
+     *
+     * @return the position of the next other byte, or end
+     */
+    private int skipBlank(int i, int end) {
+        while (i < end) {
+            byte b = bytes.get(i);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Finds the start of the next line.
+     *
+     * @return the position just after the next line break, or end
+     */
+    private int nextLine(int i, int end) {
+        while (i < end && bytes.get(i) != '\n') {
+            i++;
+        }
+        return Math.min(i + 1, end);
+    }
+
+    /**
+     * Checks whether a byte is an ASCII digit.
+     */
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    public static void main(String[] args) throws IOException {
+        AdjListsGraph<String> baseline = new AdjListsGraph<String>();
+        for (int v = 0; v < 500; v++) {
+            baseline.addVertex("v" + v);
+        }
+        Random random = new Random(230);
+        for (int i = 0; i < 8000; i++) {
+            String v1 = "v" + random.nextInt(500);
+            String v2 = "v" + random.nextInt(500);
+            if (i % 3 == 0) {
+                baseline.addArc(v1, v2, random.nextInt(21) - 10); //some weights are negative
+            } else {
+                baseline.addArc(v1, v2);
+            }
+        }
+        File saved = File.createTempFile("TGFLoader", ".tgf");
+        saved.deleteOnExit();
+        baseline.saveToTGF(saved.getPath());
+        System.out.println("Testing load() against AdjListsGraph:\t" + GraphChecks.sameArcs(load(saved.getPath()), baseline));
+
+        // vertex lines with an unreadable, too big and repeated id, and an arc to a missing vertex
+        File malformed = File.createTempFile("TGFLoader", ".tgf");
+        malformed.deleteOnExit();
+        try (PrintWriter w = new PrintWriter(malformed, "UTF-8")) {
+            w.println("7 A");
+            w.println("2147483647 B");
+            w.println("x C");
+            w.println("99999999999 D");
+            w.println("7 E");
+            w.println("3x F");
+            w.println("#");
+            w.println("7 2147483647 4");
+            w.println("2147483647 7");
+            w.println("7 8");
+        }
+        CSRGraph<String> g = load(malformed.getPath());
+        System.out.println("Testing load() with malformed vertex lines:\t"
+            + (g.getNumVertices() == 2 && g.getWeight("A", "B") == 4 && g.isArc("B", "A") && g.getNumArcs() == 2));
+
+        // a repeated arc keeps the weight it is given last, as addArc does
+        File repeated = File.createTempFile("TGFLoader", ".tgf");
+        repeated.deleteOnExit();
+        AdjListsGraph<String> expected = new AdjListsGraph<String>();
+        try (PrintWriter w = new PrintWriter(repeated, "UTF-8")) {
+            for (int v = 0; v < 20; v++) {
+                w.println(v + " v" + v);
+                expected.addVertex("v" + v);
+            }
+            w.println("#");
+            for (int i = 0; i < 400; i++) {
+                int v1 = random.nextInt(20);
+                int v2 = random.nextInt(20);
+                int weight = random.nextInt(21) - 10;
+                w.println(v1 + " " + v2 + " " + weight);
+                expected.addArc("v" + v1, "v" + v2, weight);
+            }
+        }
+        System.out.println("Testing load() with repeated arcs against AdjListsGraph.addArc():\t"
+            + GraphChecks.sameArcs(load(repeated.getPath()), expected));
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * A union-find (disjoint set) structure over the elements 0 ... size() - 1,
+ * with union by size and path halving, so any sequence of operations costs
+ * O(alpha(n)) each (effectively constant). Elements can be added one at a
+ * time, each starting in a set of its own.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+
+public class UnionFind {
+    // instance variables
+    protected int[] parent; //key = element, value = its parent, itself for a root
+    protected int[] sizes; //key = root, value = how many elements its set holds
+    protected int numElements;
+    protected int numSets;
+
+    /**
+     * Constructor for objects of class UnionFind
+     *
+     * @param n how many elements to start with, each in its own set
+     */
+    public UnionFind(int n) {
+        parent = new int[Math.max(n, 16)];
+        sizes = new int[parent.length];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            sizes[i] = 1;
+        }
+        numElements = n;
+        numSets = n;
+    }
+
+    /**
+     * Adds a new element in a set of its own.
+     *
+     * @return the new element
+     */
+    public int add() {
+        if (numElements == parent.length) {
+            parent = Arrays.copyOf(parent, numElements * 2);
+            sizes = Arrays.copyOf(sizes, numElements * 2);
+        }
+        parent[numElements] = numElements;
+        sizes[numElements] = 1;
+        numSets++;
+        return numElements++;
+    }
+
+    /**
+     * Finds the representative (root) of an element's set, halving the path
+     * to it on the way.
+     *
+     * @param x the element
+     * @return the root of x's set
+     */
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merges the sets of two elements, hanging the smaller set under the
+     * larger one.
+     *
+     * @param x the first element
+     * @param y the second element
+     * @return true if they were in different sets
+     */
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) {
+            return false;
+        }
+        if (sizes[rootX] < sizes[rootY]) {
+            int swap = rootX;
+            rootX = rootY;
+            rootY = swap;
+        }
+        parent[rootY] = rootX;
+        sizes[rootX] += sizes[rootY];
+        numSets--;
+        return true;
+    }
+
+    /**
+     * Determines whether two elements are in the same set.
+     *
+     * @param x the first element
+     * @param y the second element
+     * @return true if they are in the same set
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Checks how many elements are in the same set as an element.
+     *
+     * @param x the element
+     * @return the size of x's set
+     */
+    public int setSize(int x) {
+        return sizes[find(x)];
+    }
+
+    /**
+     * Checks the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return numElements;
+    }
+
+    /**
+     * Checks the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    public int getNumSets() {
+        return numSets;
+    }
+
+    public static void main(String[] args) {
+        // checks against the plain way: a label per element, relabelling a whole set on every union
+        UnionFind sets = new UnionFind(200);
+        int[] label = new int[1000];
+        for (int i = 0; i < label.length; i++) {
+            label[i] = i;
+        }
+        Random random = new Random(230);
+        boolean same = true;
+        for (int i = 0; i < 3000; i++) {
+            if (sets.size() < label.length && i % 4 == 0) {
+                sets.add();
+            }
+            int x = random.nextInt(sets.size());
+            int y = random.nextInt(sets.size());
+            boolean joined = label[x] != label[y];
+            same = same && sets.union(x, y) == joined;
+            if (joined) {
+                int old = label[y];
+                for (int j = 0; j < label.length; j++) {
+                    if (label[j] == old) {
+                        label[j] = label[x];
+                    }
+                }
+            }
+        }
+
+        Set<Integer> labels = new HashSet<Integer>();
+        for (int x = 0; x < sets.size(); x++) {
+            labels.add(label[x]);
+            int size = 0;
+            for (int y = 0; y < sets.size(); y++) {
+                size += (label[y] == label[x]) ? 1 : 0;
+                if (y % 17 == 0) {
+                    same = same && sets.connected(x, y) == (label[x] == label[y]);
+                }
+            }
+            same = same && sets.setSize(x) == size;
+        }
+        System.out.println("Testing union(), connected() and setSize() against relabelling:\t"
+            + (same && sets.getNumSets() == labels.size()));
+    }
+}
@@ -0,0 +1,369 @@
+/**
+ * A directed graph that is read through immutable versions, so analyses
+ * can keep running while new vertices and arcs are being added. One
+ * writer at a time adds vertices and adds or removes arcs; nothing it
+ * does is visible until publish(), which makes the changes so far into a
+ * new GraphVersion with the next epoch number. A reader calls pin() to get
+ * the newest version, reads it with no locking at all (it is an
+ * IndexedGraph, so GraphTraversal, BoundingEccentricity and the rest work
+ * on it), and calls close() on it when done.
+ *
+ * Versions share everything they have in common. Successor rows are kept
+ * in chunks of CHUNK_SIZE vertices, and a batch of changes copies only the
+ * rows it touches and the chunks that hold them (copy-on-write), so
+ * publishing costs about the size of the changes rather than the size of
+ * the graph. A version that has been replaced is reclaimed (dropped, so the
+ * garbage collector can free whatever it does not share with newer
+ * versions) as soon as no reader has it pinned.
+ *
+ * Vertices cannot be removed, only added, because old versions keep
+ * finding them by the same index. Arcs have no weights; every version
+ * reports weight 1 for each of its arcs.
+ *
+ * @author Kathryn Swint
+ * @version 10/17/2026
+ */
+package javafoundations;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VersionedGraph<T> {
+    public static final int CHUNK_BITS = 8;
+    public static final int CHUNK_SIZE = 1 << CHUNK_BITS; //vertices per chunk of rows
+
+    // instance variables
+    protected ConcurrentHashMap<T,Integer> ids; //key = vertex, value = vertex index, shared by every version
+    protected volatile GraphVersion<T> current; //the newest published version
+    protected LinkedList<GraphVersion<T>> retired; //replaced versions that a reader may still have pinned
+
+    // the writer's state; rows and chunks not owned by the current batch are
+    // shared with published versions and are copied before being changed
+    protected Object[][] labels; //labels[i >>> CHUNK_BITS][i & (CHUNK_SIZE - 1)] = vertex with index i
+    protected int[][][] rows; //the same layout; a row holds its degree, then its sorted successors
+    protected int numVertices;
+    protected int numArcs;
+    protected long epoch; //epoch of the last published version
+    protected boolean rowsOwned; //true once the outer rows array was copied in this batch
+    protected long[] chunkBatch; //key = chunk, value = last epoch whose batch copied it
+    protected long[] rowBatch; //key = vertex index, value = last epoch whose batch copied its row
+    protected boolean changed; //true if anything changed since the last publish()
+
+    /**
+     * Constructor for objects of class VersionedGraph. Epoch 0 is the
+     * empty graph.
+     */
+    public VersionedGraph() {
+        ids = new ConcurrentHashMap<T,Integer>();
+        retired = new LinkedList<GraphVersion<T>>();
+        labels = new Object[1][CHUNK_SIZE];
+        rows = new int[1][CHUNK_SIZE][];
+        chunkBatch = new long[1];
+        rowBatch = new long[CHUNK_SIZE];
+        Arrays.fill(chunkBatch, -1);
+        Arrays.fill(rowBatch, -1);
+        epoch = 0;
+        current = new GraphVersion<T>(this, epoch, 0, 0, labels, rows);
+    }
+
+    /**
+     * Adds a vertex, to be seen from the next published version on.
+     *
+     * @param v the vertex to be added
+     */
+    public synchronized void addVertex(T v) {
+        if (ids.containsKey(v)) {
+            return;
+        }
+        int chunk = numVertices >>> CHUNK_BITS;
+        if (chunk == labels.length) {
+            // older versions never read past their own number of vertices, so
+            // new slots can be filled in place; only the outer arrays grow
+            labels = Arrays.copyOf(labels, chunk * 2);
+            rows = Arrays.copyOf(rows, chunk * 2);
+            rowsOwned = true;
+            chunkBatch = Arrays.copyOf(chunkBatch, chunk * 2);
+            Arrays.fill(chunkBatch, chunk, chunk * 2, -1);
+        }
+        if (labels[chunk] == null) {
+            labels[chunk] = new Object[CHUNK_SIZE];
+            rows[chunk] = new int[CHUNK_SIZE][];
+            chunkBatch[chunk] = epoch; //a new chunk belongs to this batch
+        }
+        if (numVertices == rowBatch.length) {
+            rowBatch = Arrays.copyOf(rowBatch, numVertices * 2);
+            Arrays.fill(rowBatch, numVertices, numVertices * 2, -1);
+        }
+        labels[chunk][numVertices & (CHUNK_SIZE - 1)] = v;
+        ids.put(v, numVertices);
+        numVertices++;
+        changed = true;
+    }
+
+    /**
+     * Adds an arc, to be seen from the next published version on.
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     */
+    public synchronized void addArc(T v1, T v2) {
+        Integer origin = ids.get(v1);
+        Integer destination = ids.get(v2);
+        if (origin == null || destination == null) {
+            System.out.println("Tried to add edge to one or more vertex that doesn't exist.");
+            return;
+        }
+
+        int[] row = rowAt(origin);
+        int degree = (row == null) ? 0 : row[0];
+        int position = (row == null) ? -1 : Arrays.binarySearch(row, 1, degree + 1, destination);
+        if (position >= 0) {
+            return; //the arc is already there
+        }
+        position = (row == null) ? 1 : -position - 1;
+
+        row = writableRow(origin, degree + 1);
+        System.arraycopy(row, position, row, position + 1, degree + 1 - position);
+        row[position] = destination;
+        row[0] = degree + 1;
+        numArcs++;
+        changed = true;
+    }
+
+    /**
+     * Removes an arc, from the next published version on.
+     *
+     * @param v1 the origin of the arc
+     * @param v2 the destination of the arc
+     */
+    public synchronized void removeArc(T v1, T v2) {
+        Integer origin = ids.get(v1);
+        Integer destination = ids.get(v2);
+        if (origin == null || destination == null) {
+            System.out.println("Tried to remove edge from one or more vertex that doesn't exist.");
+            return;
+        }
+
+        int[] row = rowAt(origin);
+        if (row == null) {
+            return;
+        }
+        int degree = row[0];
+        int position = Arrays.binarySearch(row, 1, degree + 1, destination);
+        if (position < 0) {
+            return; //there is no such arc
+        }
+
+        row = writableRow(origin, degree);
+        System.arraycopy(row, position + 1, row, position, degree - position);
+        row[0] = degree - 1;
+        numArcs--;
+        changed = true;
+    }
+
+    /**
+     * Adds an edge (arcs in both directions), to be seen from the next
+     * published version on.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public synchronized void addEdge(T v1, T v2) {
+        addArc(v1, v2);
+        addArc(v2, v1);
+    }
+
+    /**
+     * Removes an edge, from the next published version on.
+     *
+     * @param v1 the first vertex
+     * @param v2 the second vertex
+     */
+    public synchronized void removeEdge(T v1, T v2) {
+        removeArc(v1, v2);
+        removeArc(v2, v1);
+    }
+
+    /**
+     * Gets the writer's current row of a vertex.
+     *
+     * @param index the index of the vertex
+     * @return its row, or null if it has never had a successor
+     */
+    private int[] rowAt(int index) {
+        return rows[index >>> CHUNK_BITS][index & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Gets a row that this batch may change, copying the outer array, the
+     * chunk and the row first if they are still shared with a published
+     * version.
+     *
+     * @param index the index of the vertex
+     * @param degree how many successors the row must have room for
+     * @return the vertex's row, owned by this batch
+     */
+    private int[] writableRow(int index, int degree) {
+        int chunk = index >>> CHUNK_BITS;
+        int slot = index & (CHUNK_SIZE - 1);
+        if (!rowsOwned) {
+            rows = rows.clone();
+            rowsOwned = true;
+        }
+        if (chunkBatch[chunk] != epoch) {
+            rows[chunk] = rows[chunk].clone();
+            chunkBatch[chunk] = epoch;
+        }
+
+        int[] row = rows[chunk][slot];
+        if (row == null) {
+            row = new int[4];
+        } else if (rowBatch[index] != epoch || row.length < degree + 1) {
+            row = Arrays.copyOf(row, Math.max(row.length, (degree + 1) * 2));
+        }
+        rows[chunk][slot] = row;
+        rowBatch[index] = epoch;
+        return row;
+    }
+
+    /**
+     * Makes everything written since the last publish() visible to readers,
+     * as a new version with the next epoch number. Versions no reader has
+     * pinned are reclaimed.
+     *
+     * @return the epoch of the newest version
+     */
+    public synchronized long publish() {
+        if (changed) {
+            GraphVersion<T> old = current;
+            // publishing moves the writer on to a new batch, so nothing the
+            // new version can see will be changed in place afterwards
+            epoch++;
+            current = new GraphVersion<T>(this, epoch, numVertices, numArcs, labels, rows);
+            rowsOwned = false;
+            changed = false;
+            synchronized (retired) {
+                retired.add(old);
+            }
+        }
+        reclaim();
+        return epoch;
+    }
+
+    /**
+     * Pins the newest version for reading. It stays exactly as it is, no
+     * matter what the writer does, until it is closed. Every pin() must be
+     * matched by a close() of the version it returned.
+     *
+     * @return this reader's handle on the newest published version
+     */
+    public GraphVersion<T> pin() {
+        while (true) {
+            GraphVersion<T> version = current.tryPin();
+            if (version != null) {
+                return version;
+            }
+            // the version was replaced and reclaimed before it could be
+            // pinned, so a newer one must be current by now
+        }
+    }
+
+    /**
+     * Called by GraphVersion.close() once a reader is done with a version.
+     *
+     * @param version the version that was released
+     */
+    void released(GraphVersion<T> version) {
+        if (version.getEpoch() != current.getEpoch()) { //a handle is never current itself
+            reclaim();
+        }
+    }
+
+    /**
+     * Drops every replaced version that no reader has pinned.
+     */
+    protected void reclaim() {
+        synchronized (retired) {
+            Iterator<GraphVersion<T>> iterator = retired.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().tryReclaim()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the epoch of the newest published version.
+     *
+     * @return the newest epoch
+     */
+    public long getEpoch() {
+        return current.getEpoch();
+    }
+
+    /**
+     * Checks how many versions are still kept: the newest one, plus every
+     * replaced one that a reader still has pinned.
+     *
+     * @return the number of versions not yet reclaimed
+     */
+    public int getNumVersions() {
+        synchronized (retired) {
+            return retired.size() + 1;
+        }
+    }
+
+    public static void main(String[] args) {
+        VersionedGraph<Integer> g = new VersionedGraph<Integer>();
+        AdjListsGraph<Integer> baseline = new AdjListsGraph<Integer>();
+        Random random = new Random(230);
+        for (int v = 0; v < 1000; v++) {
+            g.addVertex(v);
+            baseline.addVertex(v);
+        }
+        for (int i = 0; i < 5000; i++) {
+            int v1 = random.nextInt(1000);
+            int v2 = random.nextInt(1000);
+            g.addArc(v1, v2);
+            baseline.addArc(v1, v2);
+        }
+        g.publish();
+        GraphVersion<Integer> first = g.pin();
+        GraphVersion<Integer> second = g.pin(); //another reader of the same version
+        AdjListsGraph<Integer> before = new AdjListsGraph<Integer>();
+        for (int v = 0; v < 1000; v++) {
+            before.addVertex(v);
+        }
+        for (int v = 0; v < 1000; v++) {
+            for (Integer w : baseline.getSuccessors(v)) {
+                before.addArc(v, w);
+            }
+        }
+        System.out.println("Testing publish() and pin() against AdjListsGraph:\t" + GraphChecks.sameArcs(first, baseline));
+
+        for (int i = 0; i < 2000; i++) {
+            int v1 = random.nextInt(1000);
+            int v2 = random.nextInt(1000);
+            if (i % 4 == 0) {
+                g.removeArc(v1, v2);
+                baseline.removeArc(v1, v2);
+            } else {
+                g.addArc(v1, v2);
+                baseline.addArc(v1, v2);
+            }
+        }
+        g.publish();
+        try (GraphVersion<Integer> newest = g.pin()) {
+            System.out.println("Testing a second publish() against AdjListsGraph:\t" + GraphChecks.sameArcs(newest, baseline));
+        }
+        System.out.println("Testing the pinned version is unchanged:\t" + GraphChecks.sameArcs(first, before));
+
+        first.close();
+        first.close(); //must not give up the other reader's pin
+        g.publish();
+        System.out.println("Testing close() twice keeps the other reader's pin:\t" + (g.getNumVersions() == 2));
+        second.close();
+        System.out.println("Testing the version is reclaimed once both are closed:\t" + (g.getNumVersions() == 1));
+    }
+}